@@ -0,0 +1,90 @@
+//Importing the necessary libraries
+import java.util.ArrayList;
+import java.util.List;
+
+import bench.Simulation;
+
+//This class implements the benchmark access to the simulation (see bench.Simulation)
+public class SimulationBridge implements Simulation {
+	@Override
+	public Object table(int[][] columns) {
+		List<OperatingSystemSchedulesProcesses.Process> processes = new ArrayList<>(columns[0].length);
+		for (int i = 0; i < columns[0].length; i++) {
+			processes.add(new OperatingSystemSchedulesProcesses.Process(columns[0][i], columns[1][i], columns[2][i], columns[3][i]));
+		}
+		return new OperatingSystemSchedulesProcesses.ProcessTable(processes);
+	}
+
+	@Override
+	public Object fcfs(Object table) {
+		return OperatingSystemSchedulesProcesses.fcfsResult((OperatingSystemSchedulesProcesses.ProcessTable) table);
+	}
+
+	@Override
+	public Object sjf(Object table) {
+		return OperatingSystemSchedulesProcesses.sjfResult((OperatingSystemSchedulesProcesses.ProcessTable) table);
+	}
+
+	@Override
+	public Object roundRobin(Object table, int timeQuantum) {
+		return OperatingSystemSchedulesProcesses.roundRobinResult((OperatingSystemSchedulesProcesses.ProcessTable) table, timeQuantum);
+	}
+
+	@Override
+	public Object priority(Object table) {
+		return OperatingSystemSchedulesProcesses.priorityResult((OperatingSystemSchedulesProcesses.ProcessTable) table);
+	}
+
+	@Override
+	public Object readProcesses(String filename) {
+		return OperatingSystemSchedulesProcesses.readProcesses(filename);
+	}
+
+	@Override
+	public Object readProcessesMapped(String filename) {
+		return OperatingSystemSchedulesProcesses.readProcessesMapped(filename);
+	}
+
+	@Override
+	public Object runQueue(int queueLength) {
+		OperatingSystemSchedulesProcesses.RunQueue queue = new OperatingSystemSchedulesProcesses.RunQueue(queueLength);
+		for (int i = 0; i < queueLength; i++) {
+			queue.add(i);
+		}
+		return queue;
+	}
+
+	@Override
+	public int runQuanta(Object queue, int[] remaining, int timeQuantum, int quanta) {
+		OperatingSystemSchedulesProcesses.RunQueue runQueue = (OperatingSystemSchedulesProcesses.RunQueue) queue;
+		int current = -1;
+		for (int q = 0; q < quanta; q++) {
+			current = runQueue.poll();
+			remaining[current] -= timeQuantum;
+			runQueue.add(current);
+		}
+		return current;
+	}
+
+	@Override
+	public Object allocator(String strategy, int[] holeSizes) {
+		OperatingSystemSchedulesProcesses.MemoryAllocator allocator =
+				new OperatingSystemSchedulesProcesses.MemoryAllocator(OperatingSystemSchedulesProcesses.CommandLineOptions.fit(strategy));
+		int start = 0;
+		for (int size : holeSizes) {
+			allocator.addHole(start, size);
+			start += size + 10;
+		}
+		return allocator;
+	}
+
+	@Override
+	public int allocate(Object allocator, int request) {
+		return ((OperatingSystemSchedulesProcesses.MemoryAllocator) allocator).allocate(request);
+	}
+
+	@Override
+	public long pageFaults(String algorithm, int[] pageReferences, int frames) {
+		return OperatingSystemSchedulesProcesses.simulatePaging(algorithm, pageReferences, frames);
+	}
+}
@@ -0,0 +1,79 @@
+package bench;
+
+//Importing the necessary libraries
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//This class measures a stream of allocation requests against a large set of memory holes for each placement strategy
+//Every invocation starts from a fresh allocator, so the holes are built outside the measured time
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class MemoryAllocationBenchmark {
+	//This variable is the simulation being measured
+	Simulation simulation = Simulation.load();
+
+	//This variable is the placement strategy
+	@Param({"first", "best", "worst", "next"})
+	String strategy;
+
+	//This variable is the number of holes, each between 100 and 200 units like the memory allocation simulation
+	@Param({"1000000"})
+	int holes;
+
+	//This variable is the number of allocation requests, each between 1 and 30 units
+	@Param({"10000000"})
+	int requests;
+
+	//These arrays are the hole sizes and the requests, drawn once per trial
+	int[] holeSizes, requestSizes;
+	//This variable is the allocator of the next invocation
+	Object allocator;
+
+	//This method draws the hole sizes and the requests once per trial
+	@Setup(Level.Trial)
+	public void setupTrial() {
+		SplittableRandom random = new SplittableRandom(42);
+		holeSizes = new int[holes];
+		for (int i = 0; i < holes; i++) {
+			holeSizes[i] = 100 + random.nextInt(101);
+		}
+		requestSizes = new int[requests];
+		for (int i = 0; i < requests; i++) {
+			requestSizes[i] = 1 + random.nextInt(30);
+		}
+	}
+
+	//This method builds a fresh allocator before every invocation
+	@Setup(Level.Invocation)
+	public void setupInvocation() {
+		allocator = simulation.allocator(strategy, holeSizes);
+	}
+
+	//This method runs every request and returns the number that were allocated
+	@Benchmark
+	public long allocate() {
+		long allocated = 0;
+		for (int request : requestSizes) {
+			if (simulation.allocate(allocator, request) >= 0)
+				allocated++;
+		}
+		return allocated;
+	}
+}
@@ -0,0 +1,61 @@
+package bench;
+
+//Importing the necessary libraries
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//This class measures page replacement over a random page reference string for growing numbers of frames
+//The pages are drawn uniformly from four times as many pages as there are frames, so about three in four references fault
+//FIFO is left out because it still scans a list of the frames on every reference
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PagingBenchmark {
+	//This variable is the simulation being measured
+	Simulation simulation = Simulation.load();
+
+	//This variable is the page replacement algorithm
+	@Param({"lru", "opt", "clock", "lfu", "arc"})
+	String algorithm;
+
+	//This variable is the number of frames
+	@Param({"1000", "100000", "1000000"})
+	int frames;
+
+	//This variable is the length of the page reference string
+	@Param({"10000000"})
+	int references;
+
+	//This array is the page reference string, drawn once per trial
+	int[] pageReferences;
+
+	//This method draws the page reference string once per trial
+	@Setup
+	public void setup() {
+		SplittableRandom random = new SplittableRandom(42);
+		pageReferences = new int[references];
+		for (int i = 0; i < references; i++) {
+			pageReferences[i] = random.nextInt(4 * frames);
+		}
+	}
+
+	@Benchmark
+	public long pageFaults() {
+		return simulation.pageFaults(algorithm, pageReferences, frames);
+	}
+}
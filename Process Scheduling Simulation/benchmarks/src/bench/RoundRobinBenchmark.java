@@ -0,0 +1,59 @@
+package bench;
+
+//Importing the necessary libraries
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//This class measures the cost of one Round Robin quantum as the run queue grows
+//Each quantum dequeues the process at the head, runs it for one time quantum and re-queues it, exactly like
+//roundRobinScheduling; the processes never finish, so the queue keeps its length and the score is the time per quantum
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RoundRobinBenchmark {
+	//This variable represents the time quantum used for every run
+	static final int TIME_QUANTUM = 4;
+	//This variable represents the number of quanta run by each invocation
+	static final int QUANTA = 1_000_000;
+
+	//This variable is the simulation being measured
+	Simulation simulation = Simulation.load();
+
+	//This variable is the number of processes in the run queue
+	@Param({"1024", "65536", "4194304"})
+	int queueLength;
+
+	//These variables are the run queue and the remaining time of each process, built once per trial
+	Object queue;
+	int[] remaining;
+
+	//This method fills the run queue with processes that never finish during the measurement
+	@Setup
+	public void setup() {
+		remaining = new int[queueLength];
+		Arrays.fill(remaining, Integer.MAX_VALUE);
+		queue = simulation.runQueue(queueLength);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(QUANTA)
+	public int quantum() {
+		return simulation.runQuanta(queue, remaining, TIME_QUANTUM, QUANTA);
+	}
+}
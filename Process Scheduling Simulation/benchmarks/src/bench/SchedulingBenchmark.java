@@ -0,0 +1,67 @@
+package bench;
+
+//Importing the necessary libraries
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//This class measures the scheduling algorithms over synthetic traces of growing length and different arrival patterns
+//Each benchmark runs one algorithm, including its Gantt chart, on a fresh copy of the run columns of a shared process
+//table; the printing done by the *Scheduling methods is left out so that the scheduling itself is measured
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SchedulingBenchmark {
+	//This variable is the simulation being measured
+	Simulation simulation = Simulation.load();
+
+	//This variable is the number of processes in the trace
+	@Param({"1000", "10000", "100000", "1000000", "10000000"})
+	int processes;
+
+	//This variable is the arrival pattern of the trace (see SyntheticTraces)
+	@Param({"uniform", "poisson", "bursty"})
+	String arrivals;
+
+	//This variable is the table every run shares
+	Object table;
+
+	//This method builds the trace once per trial
+	@Setup
+	public void setup() {
+		table = simulation.table(SyntheticTraces.generate(processes, arrivals, 42));
+	}
+
+	@Benchmark
+	public Object fcfs() {
+		return simulation.fcfs(table);
+	}
+
+	@Benchmark
+	public Object sjf() {
+		return simulation.sjf(table);
+	}
+
+	@Benchmark
+	public Object roundRobin() {
+		return simulation.roundRobin(table, 4);
+	}
+
+	@Benchmark
+	public Object priority() {
+		return simulation.priority(table);
+	}
+}
@@ -0,0 +1,19 @@
+package bench;
+
+//Importing the necessary libraries
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+//This class runs the benchmarks with the GC profiler, so every result reports ops/sec together with the allocation
+//rate (gc.alloc.rate) and the bytes allocated per operation (gc.alloc.rate.norm)
+//It accepts the usual JMH command line, for example a benchmark regex and -p processes=1000,100000
+public class SchedulingBenchmarkRunner {
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+		CommandLineOptions commandLine = new CommandLineOptions(args);
+		new Runner(new OptionsBuilder().parent(commandLine).addProfiler(GCProfiler.class).build()).run();
+	}
+}
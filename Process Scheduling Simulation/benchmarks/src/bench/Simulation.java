@@ -0,0 +1,50 @@
+package bench;
+
+//This interface gives the benchmarks access to the simulation
+//The simulation lives in the default package, which classes in a package cannot refer to, while JMH requires benchmarks
+//to be in a package; SimulationBridge in the default package implements this interface by calling the simulation
+public interface Simulation {
+	//This method returns a process table built from the columns {pid, arrival, burst, priority}
+	Object table(int[][] columns);
+
+	//These methods run one algorithm, including its Gantt chart, over a table and return the result without printing it
+	Object fcfs(Object table);
+
+	Object sjf(Object table);
+
+	Object roundRobin(Object table, int timeQuantum);
+
+	Object priority(Object table);
+
+	//These methods read a trace file in the processes.txt format with one of the text loaders
+	Object readProcesses(String filename);
+
+	Object readProcessesMapped(String filename);
+
+	//This method returns a Round Robin run queue holding the process indices 0 to queueLength - 1
+	Object runQueue(int queueLength);
+
+	//This method runs quanta of Round Robin over a run queue, each dequeuing the process at the head, taking the time
+	//quantum from its remaining time and re-queuing it, and returns the index of the last process that ran
+	int runQuanta(Object queue, int[] remaining, int timeQuantum, int quanta);
+
+	//This method returns a memory allocator with the given placement strategy (first, best, worst or next) holding
+	//one hole per given size, with a gap of 10 units between holes
+	Object allocator(String strategy, int[] holeSizes);
+
+	//This method allocates a request from an allocator and returns its address, or -1 if no hole is large enough
+	int allocate(Object allocator, int request);
+
+	//This method runs a page replacement algorithm (fifo, lru, opt, clock, lfu or arc) over a page reference string and
+	//returns the number of page faults
+	long pageFaults(String algorithm, int[] pageReferences, int frames);
+
+	//This method returns the bridge to the simulation
+	static Simulation load() {
+		try {
+			return (Simulation) Class.forName("SimulationBridge").getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("The simulation bridge is missing", e);
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package bench;
+
+//Importing the necessary libraries
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Random;
+
+//This class generates the seeded synthetic traces used by the benchmarks
+//Burst times are uniform in 1..10 and priorities in 0..9; the arrival pattern is one of
+//  uniform - arrival times uniform over the time the trace needs to run, listed in random order
+//  poisson - exponential gaps with a mean of 5.5 time units, so the CPU is about fully loaded, listed in arrival order
+//  bursty  - groups of 1000 processes arriving together every 5500 time units, listed in arrival order
+public class SyntheticTraces {
+	//This method returns a trace of the given number of processes with the given arrival pattern, as the columns
+	//{pid, arrival, burst, priority}
+	static int[][] generate(int processes, String arrivals, long seed) {
+		Random rand = new Random(seed);
+		int[][] trace = new int[4][processes];
+		double time = 0;
+		for (int i = 0; i < processes; i++) {
+			int arrival;
+			switch (arrivals) {
+				case "uniform" -> arrival = rand.nextInt(Math.max(1, (int) Math.min(Integer.MAX_VALUE, processes * 11L / 2)));
+				case "poisson" -> {
+					time += -Math.log(1 - rand.nextDouble()) * 5.5;
+					arrival = (int) time;
+				}
+				case "bursty" -> arrival = i / 1000 * 5500;
+				default -> throw new IllegalArgumentException("Unknown arrival pattern: " + arrivals);
+			}
+			trace[0][i] = i + 1;
+			trace[1][i] = arrival;
+			trace[2][i] = 1 + rand.nextInt(10);
+			trace[3][i] = rand.nextInt(10);
+		}
+		return trace;
+	}
+
+	//This method writes a trace to a file in the processes.txt format
+	static void write(int[][] trace, File file) throws IOException {
+		try (BufferedWriter out = new BufferedWriter(new FileWriter(file), 1 << 16)) {
+			out.write("PID Arrival_Time Burst_Time Priority\n");
+			for (int i = 0; i < trace[0].length; i++) {
+				out.write(trace[0][i] + " " + trace[1][i] + " " + trace[2][i] + " " + trace[3][i] + "\n");
+			}
+		}
+	}
+}
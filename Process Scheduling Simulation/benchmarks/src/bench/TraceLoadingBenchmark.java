@@ -0,0 +1,72 @@
+package bench;
+
+//Importing the necessary libraries
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+//This class measures reading a trace file in the processes.txt format with each of the text loaders
+//The loaders print the path of the file they read, so System.out is discarded while the benchmarks run
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class TraceLoadingBenchmark {
+	//This variable is the simulation being measured
+	Simulation simulation = Simulation.load();
+
+	//This variable is the number of processes in the trace
+	@Param({"1000", "10000", "100000", "1000000", "10000000"})
+	int processes;
+
+	//This variable is the arrival pattern of the trace (see SyntheticTraces)
+	@Param({"uniform", "poisson", "bursty"})
+	String arrivals;
+
+	//This variable is the trace file, deleted after the trial
+	File trace;
+	//This variable is the standard output stream, restored after the trial
+	PrintStream stdout;
+
+	//This method writes the trace file once per trial and discards System.out
+	@Setup
+	public void setup() throws IOException {
+		trace = File.createTempFile("trace", ".txt");
+		SyntheticTraces.write(SyntheticTraces.generate(processes, arrivals, 42), trace);
+		stdout = System.out;
+		System.setOut(new PrintStream(PrintStream.nullOutputStream()));
+	}
+
+	//This method restores System.out and deletes the trace file
+	@TearDown
+	public void tearDown() {
+		System.setOut(stdout);
+		trace.delete();
+	}
+
+	@Benchmark
+	public Object readProcesses() {
+		return simulation.readProcesses(trace.getPath());
+	}
+
+	@Benchmark
+	public Object readProcessesMapped() {
+		return simulation.readProcessesMapped(trace.getPath());
+	}
+}
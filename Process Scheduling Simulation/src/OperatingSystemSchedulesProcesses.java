@@ -1,10 +1,29 @@
 //Importing the necessary libraries
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileReader;
+import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Paths;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 
 //This defines the main class for simulating OS process scheduling and memory allocation
 public class OperatingSystemSchedulesProcesses {
@@ -53,24 +72,6 @@ public class OperatingSystemSchedulesProcesses {
 
 
 
-	//This class represents a segment in a Gantt chart
-	static class GanttSegment {
-		//This variable stores the label for the segment (for example "P1" or "Idle")
-		String label;
-		//These variables store the start and finish times of the segment
-		int start, finish;
-
-		//This constructor initializes a Gantt segment with the given label, start time and finish time
-		GanttSegment(String label, int start, int finish) {
-			this.label = label; //Assign the segment label
-			this.start = start; //Assign the start time
-			this.finish = finish; //Assign the finish time
-		}
-	}
-
-
-
-
 	//This class represents a free memory block (a memory hole)
 	static class MemoryHole {
 		//These variables represent the starting address and size of the memory hole
@@ -86,6 +87,407 @@ public class OperatingSystemSchedulesProcesses {
 
 
 
+	//This class represents a ready queue implemented as a binary min-heap of primitive long keys
+	//Each key packs a scheduling key in the high 32 bits and a process index in the low 32 bits,
+	//so equal scheduling keys are ordered by process index without any boxing
+	static class ReadyHeap {
+		//This array stores the heap keys and this variable stores the number of keys in the heap
+		long[] keys;
+		int size;
+
+		//This constructor initializes an empty heap with the given initial capacity
+		ReadyHeap(int capacity) {
+			this.keys = new long[Math.max(capacity, 1)]; //Allocate the key array
+			this.size = 0; //The heap starts out empty
+		}
+
+		//This method packs a scheduling key and a process index into a single heap key
+		static long key(int schedulingKey, int index) {
+			return ((long) schedulingKey << 32) | (index & 0xFFFFFFFFL);
+		}
+
+		//This method extracts the process index from a heap key
+		static int index(long key) {
+			return (int) key;
+		}
+
+		//This method returns true if the heap contains no keys
+		boolean isEmpty() {
+			return size == 0;
+		}
+
+		//This method inserts a key into the heap
+		void push(long key) {
+			//If the key array is full, double its capacity
+			if (size == keys.length) {
+				keys = Arrays.copyOf(keys, keys.length * 2);
+			}
+			//Sift the new key up from the last position until its parent is not larger
+			int i = size++;
+			while (i > 0) {
+				int parent = (i - 1) >>> 1;
+				if (keys[parent] <= key)
+					break;
+				keys[i] = keys[parent];
+				i = parent;
+			}
+			keys[i] = key;
+		}
+
+		//This method returns the smallest key without removing it
+		long peek() {
+			return keys[0];
+		}
+
+		//This method removes and returns the smallest key in the heap
+		long pop() {
+			long top = keys[0]; //Remember the smallest key
+			long last = keys[--size]; //Take the last key to re-insert from the root
+			//Sift the last key down from the root until both children are not smaller
+			int i = 0;
+			int half = size >>> 1;
+			while (i < half) {
+				int child = 2 * i + 1;
+				if (child + 1 < size && keys[child + 1] < keys[child])
+					child++;
+				if (last <= keys[child])
+					break;
+				keys[i] = keys[child];
+				i = child;
+			}
+			if (size > 0)
+				keys[i] = last;
+			return top;
+		}
+	}
+
+
+
+
+	//This class represents a first-in, first-out run queue of process indices stored in a growable ring buffer
+	static class RunQueue {
+		//This array stores the queued indices; its length is always a power of two
+		int[] items;
+		//These variables store the position of the first index and the number of queued indices
+		int head, size;
+
+		//This constructor initializes an empty queue with room for at least the given number of indices
+		RunQueue(int capacity) {
+			this.items = new int[Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1]; //Round the capacity up to a power of two
+			this.head = 0; //The queue starts at the beginning of the buffer
+			this.size = 0; //The queue starts out empty
+		}
+
+		//This method returns true if the queue contains no indices
+		boolean isEmpty() {
+			return size == 0;
+		}
+
+		//This method returns the number of queued indices
+		int size() {
+			return size;
+		}
+
+		//This method adds an index to the tail of the queue
+		void add(int index) {
+			//If the buffer is full, copy the queue in order into a buffer twice the size
+			if (size == items.length) {
+				int[] grown = new int[items.length * 2];
+				int firstPart = items.length - head;
+				System.arraycopy(items, head, grown, 0, firstPart);
+				System.arraycopy(items, 0, grown, firstPart, head);
+				items = grown;
+				head = 0;
+			}
+			items[(head + size++) & (items.length - 1)] = index;
+		}
+
+		//This method removes and returns the index at the head of the queue
+		int poll() {
+			int index = items[head];
+			head = (head + 1) & (items.length - 1);
+			size--;
+			return index;
+		}
+	}
+
+
+
+
+	//This class reads processes one at a time from a file in the processes.txt format
+	//The first line is treated as a header and skipped, blank lines and lines with fewer than 4 columns are skipped,
+	//and the optional fifth column is the memory requirement (100 if it is missing). Columns are parsed straight from a
+	//byte buffer by a hand-written whitespace tokenizer, so no String or String array is created for a line
+	static class TraceReader implements Closeable {
+		//This variable represents the input stream of the trace file
+		InputStream in;
+		//This array buffers bytes read from the file and these variables store the read position and the number of buffered bytes
+		byte[] buffer = new byte[1 << 16];
+		int pos, limit;
+		//This array stores the columns of the current line
+		int[] columns = new int[5];
+		//This variable stores the current line number, used in error messages
+		long lineNumber;
+		//These variables store the arrival time of the last process read and whether every arrival so far has been in order
+		int lastArrival = Integer.MIN_VALUE;
+		boolean sorted = true;
+		//This variable is true if the last line ended with a carriage return, so a line feed right after it is skipped
+		boolean afterCarriageReturn;
+
+		//This constructor opens the given file and skips its header line
+		TraceReader(String filename) throws IOException {
+			this.in = new FileInputStream(filename); //Open the trace file
+			this.lineNumber = 1; //The header is the first line
+			//Skip the header line; like BufferedReader.readLine, a line ends at '\n', '\r' or "\r\n"
+			int b;
+			while ((b = read()) != -1 && b != '\n' && b != '\r') {
+			}
+			afterCarriageReturn = b == '\r';
+		}
+
+		//This method returns the next buffered byte, refilling the buffer when needed, or -1 at the end of the file
+		int read() throws IOException {
+			if (pos == limit) {
+				limit = in.read(buffer, 0, buffer.length);
+				pos = 0;
+				if (limit <= 0) {
+					limit = 0;
+					return -1;
+				}
+			}
+			return buffer[pos++] & 0xFF;
+		}
+
+		//This method reads the next process from the file, or returns null at the end of the file
+		Process next() throws IOException {
+			int b = 0;
+			//Parse lines until a line with at least 4 columns is found or the file ends
+			while (b != -1) {
+				lineNumber++;
+				int count = 0; //The number of columns found on this line
+				b = read();
+				//Skip the line feed of a "\r\n" line end
+				if (afterCarriageReturn && b == '\n') {
+					b = read();
+				}
+				while (b != -1 && b != '\n' && b != '\r') {
+					//Skip whitespace between columns
+					if (b == ' ' || b == '\t' || b == '\f') {
+						b = read();
+						continue;
+					}
+					//Parse one column as a signed decimal integer
+					boolean negative = b == '-';
+					if (b == '-' || b == '+') {
+						b = read();
+					}
+					long value = 0;
+					int digits = 0;
+					while (b >= '0' && b <= '9') {
+						value = value * 10 + (b - '0');
+						if (value > (long) Integer.MAX_VALUE + 1) {
+							throw new NumberFormatException("Number out of range on line " + lineNumber);
+						}
+						digits++;
+						b = read();
+					}
+					//A column must consist of digits only and fit in an int
+					if (digits == 0 || (b != -1 && b != '\n' && b != '\r' && b != ' ' && b != '\t' && b != '\f')
+							|| (!negative && value > Integer.MAX_VALUE)) {
+						throw new NumberFormatException("Invalid number on line " + lineNumber);
+					}
+					if (count < columns.length) {
+						columns[count] = (int) (negative ? -value : value);
+					}
+					count++;
+				}
+				afterCarriageReturn = b == '\r';
+				//If the line has at least 4 columns, create a process from it
+				if (count >= 4) {
+					//Record whether the arrival times are still in order
+					if (columns[1] < lastArrival) {
+						sorted = false;
+					}
+					lastArrival = columns[1];
+					return new Process(columns[0], columns[1], columns[2], columns[3], count >= 5 ? columns[4] : 100);
+				}
+			}
+			return null;
+		}
+
+		//This method closes the trace file
+		@Override
+		public void close() throws IOException {
+			in.close();
+		}
+	}
+
+
+
+
+	//This class stores live processes in reusable numbered slots, so a run queue can hold slot numbers
+	//A slot is freed when its process finishes and is handed out again before the table grows
+	static class SlotTable {
+		//This array stores the process in each slot and this array is a stack of free slot numbers
+		Process[] slots = new Process[16];
+		int[] freeSlots = new int[16];
+		//These variables store the number of free slots on the stack and the number of slots ever used
+		int freeCount, used;
+
+		//This method stores a process in a free slot and returns the slot number
+		int add(Process p) {
+			int slot;
+			//Reuse a free slot if there is one; otherwise take a new slot, growing the table if it is full
+			if (freeCount > 0) {
+				slot = freeSlots[--freeCount];
+			} else {
+				if (used == slots.length) {
+					slots = Arrays.copyOf(slots, used * 2);
+					freeSlots = Arrays.copyOf(freeSlots, used * 2);
+				}
+				slot = used++;
+			}
+			slots[slot] = p;
+			return slot;
+		}
+
+		//This method returns the process stored in the given slot
+		Process get(int slot) {
+			return slots[slot];
+		}
+
+		//This method frees the given slot
+		void release(int slot) {
+			slots[slot] = null;
+			freeSlots[freeCount++] = slot;
+		}
+	}
+
+
+
+
+	//This class stores processes column by column in primitive arrays (a struct-of-arrays process table)
+	//The pid, arrival, burst, priority and memory columns and the arrival order are read-only once the table is built,
+	//so they can be shared between tables. The remaining, waiting, completion and cpuInit columns hold the state of one
+	//scheduling run and are reset before each run instead of copying every process
+	static class ProcessTable {
+		//This variable stores the number of processes in the table
+		int size;
+		//These arrays store the read-only columns: process ID, arrival time, burst time, priority and memory requirement
+		int[] pid, arrival, burst, priority, memoryRequirement;
+		//This array stores the process indices sorted by arrival time (ties keep their original order)
+		int[] arrivalOrder;
+		//These arrays store the mutable columns: remaining burst time, waiting time, completion time and CPU initialization time
+		int[] remaining, waiting, completion, cpuInit;
+
+		//This constructor builds a table from a list of processes
+		ProcessTable(List<Process> processes) {
+			this.size = processes.size(); //Assign the number of processes
+			pid = new int[size];
+			arrival = new int[size];
+			burst = new int[size];
+			priority = new int[size];
+			memoryRequirement = new int[size];
+			boolean sorted = false; //Whether the processes are known to be in arrival order
+			//If the list is a binary trace, read its columns directly instead of decoding a Process for each record
+			if (processes instanceof BinaryTrace) {
+				BinaryTrace trace = (BinaryTrace) processes;
+				sorted = trace.sortedByArrival; //Trust the sorted flag of the header
+				for (int i = 0; i < size; i++) {
+					pid[i] = trace.column(i, 0);
+					arrival[i] = trace.column(i, 1);
+					burst[i] = trace.column(i, 2);
+					priority[i] = trace.column(i, 3);
+					memoryRequirement[i] = trace.column(i, 4);
+				}
+			} else {
+				int i = 0;
+				for (Process p : processes) {
+					pid[i] = p.pid;
+					arrival[i] = p.arrival;
+					burst[i] = p.burst;
+					priority[i] = p.priority;
+					memoryRequirement[i] = p.memoryRequirement;
+					i++;
+				}
+			}
+			arrivalOrder = arrivalOrder(arrival, sorted); //Sort the process indices by arrival time once
+			allocateRunColumns(); //Allocate and reset the mutable columns
+		}
+
+		//This constructor creates a table that shares the read-only columns of the given table but has its own mutable columns,
+		//so several runs can work on the same trace at once
+		ProcessTable(ProcessTable source) {
+			this.size = source.size; //Copy the number of processes
+			this.pid = source.pid; //Share the process ID column
+			this.arrival = source.arrival; //Share the arrival time column
+			this.burst = source.burst; //Share the burst time column
+			this.priority = source.priority; //Share the priority column
+			this.memoryRequirement = source.memoryRequirement; //Share the memory requirement column
+			this.arrivalOrder = source.arrivalOrder; //Share the arrival order
+			allocateRunColumns(); //Allocate and reset the mutable columns
+		}
+
+		//This method allocates the mutable columns and resets them
+		void allocateRunColumns() {
+			remaining = new int[size];
+			waiting = new int[size];
+			completion = new int[size];
+			cpuInit = new int[size];
+			reset();
+		}
+
+		//This method resets the mutable columns before a scheduling run
+		void reset() {
+			System.arraycopy(burst, 0, remaining, 0, size); //Set remaining burst time equal to burst time
+			Arrays.fill(waiting, 0); //Initialize waiting time to 0
+			Arrays.fill(completion, 0); //Initialize completion time to 0
+			Arrays.fill(cpuInit, -1); //Initialize CPU initialization time to -1 (unset)
+		}
+
+		//This method returns the turnaround time of the given process
+		int turnaround(int i) {
+			return completion[i] - arrival[i];
+		}
+	}
+
+
+
+
+	//This method returns the indices of the given arrival times in ascending order
+	//Processes that arrive at the same time keep their original relative order
+	static int[] arrivalOrder(int[] arrival) {
+		return arrivalOrder(arrival, false);
+	}
+
+	//This method returns the indices of the given arrival times in ascending order
+	//If known is true the arrival times are already in order (a binary trace flagged as sorted) and are not checked
+	static int[] arrivalOrder(int[] arrival, boolean known) {
+		int[] order = new int[arrival.length];
+		//If the processes are already in arrival order, no sort is needed
+		boolean sorted = true;
+		for (int i = 0; i < arrival.length; i++) {
+			order[i] = i;
+			if (!known && i > 0 && arrival[i] < arrival[i - 1])
+				sorted = false;
+		}
+		if (sorted)
+			return order;
+		//Pack each arrival time with its index so a primitive sort also breaks ties by index
+		long[] keys = new long[arrival.length];
+		for (int i = 0; i < arrival.length; i++) {
+			keys[i] = ReadyHeap.key(arrival[i], i);
+		}
+		Arrays.sort(keys);
+		//Unpack the sorted indices
+		for (int i = 0; i < order.length; i++) {
+			order[i] = ReadyHeap.index(keys[i]);
+		}
+		return order;
+	}
+
+
+
 	//This method reads process data from a file and returns a list of Process objects
 	static List<Process> readProcesses(String filename) {
 		//Create a list to store processes
@@ -135,496 +537,4431 @@ public class OperatingSystemSchedulesProcesses {
 
 
 
-	//This method prints a text-based Gantt chart representing the scheduling timeline
-	static void printGanttChart(List<GanttSegment> gantt) {
-		//If the Gantt chart is empty then inform the user and return
-		if (gantt.isEmpty()) {
-			System.out.println("\nNo Gantt chart to display.");
-			return;
+	//This variable represents the smallest chunk of a mapped trace file that is parsed on its own thread
+	static final long MIN_CHUNK_BYTES = 16L << 20;
+	//This variable represents the largest chunk of a trace file that is mapped at once
+	static final long MAX_CHUNK_BYTES = 512L << 20;
+
+	//This method reads process data from a file by memory-mapping it and returns a list of Process objects
+	//The result is the same as readProcesses: the header line is skipped, blank lines and lines with fewer than 4 columns
+	//are skipped, and the memory requirement defaults to 100. Large files are split at line boundaries into chunks that
+	//are mapped and parsed in parallel, and the integer columns are parsed straight from the mapped bytes
+	static List<Process> readProcessesMapped(String filename) {
+		//Construct a Path object for the given filename
+		Path filePath = Paths.get(filename);
+		//Print the absolute file path
+		System.out.println("Reading file from: " + filePath.toAbsolutePath());
+		//Open the file as a channel
+		try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+			long size = channel.size();
+			//Skip the header line
+			long dataStart = nextLineStart(channel, 0, size);
+			//Split the rest of the file into chunks that start at line boundaries
+			long chunkBytes = Math.min(MAX_CHUNK_BYTES, Math.max(MIN_CHUNK_BYTES,
+					(size - dataStart) / (4L * Runtime.getRuntime().availableProcessors()) + 1));
+			List<Long> bounds = new ArrayList<>();
+			bounds.add(dataStart);
+			for (long b = dataStart + chunkBytes; b < size; b = bounds.get(bounds.size() - 1) + chunkBytes) {
+				long lineStart = nextLineStart(channel, b - 1, size);
+				if (lineStart >= size)
+					break;
+				bounds.add(lineStart);
+			}
+			bounds.add(size);
+			//Map and parse every chunk, in parallel if there is more than one
+			int chunks = bounds.size() - 1;
+			List<List<Process>> parsed = new ArrayList<>(Collections.nCopies(chunks, null));
+			IntStream range = IntStream.range(0, chunks);
+			(chunks > 1 ? range.parallel() : range).forEach(i -> {
+				try {
+					long start = bounds.get(i);
+					MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, bounds.get(i + 1) - start);
+					parsed.set(i, parseProcesses(buffer));
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+			//Join the chunks in file order
+			List<Process> processes = new ArrayList<>();
+			for (List<Process> chunk : parsed) {
+				processes.addAll(chunk);
+			}
+			return processes;
 		}
-		int blockWidth = 6; //Define the width of each block in the chart
-		//Create a StringBuilder for the top line (labels) of the chart
-		StringBuilder topLine = new StringBuilder();
-		//Create a StringBuilder for the bottom line (time markers) of the chart
-		StringBuilder bottomLine = new StringBuilder();
-		//Iterate over each Gantt segment to build the top line
-		for (GanttSegment seg : gantt) {
-			//Append the segment label formatted within the block
-			topLine.append("|").append(String.format("%-" + blockWidth + "s", seg.label));
-		}
-		//Iterate over each Gantt segment to build the bottom line
-		for (GanttSegment seg : gantt) {
-			//Append the start time formatted within the block
-			bottomLine.append("|").append(String.format("%-" + blockWidth + "s", seg.start));
-		}
-		//Append the final finish time to the bottom line
-		bottomLine.append("Finish:").append(gantt.get(gantt.size() - 1).finish);
-		//Print the header for the Gantt chart
-		System.out.println("\nGantt Chart:");
-		//Print the top line of the chart
-		System.out.println(topLine.toString());
-		//Print the bottom line of the chart
-		System.out.println(bottomLine.toString());
+		//Catch any I/O exceptions that occur while reading the file
+		catch (IOException | UncheckedIOException e) {
+			//Print an error message if the file cannot be read
+			System.out.println("Error: File " + filename + " not found.");
+			return new ArrayList<>();
+		}
+	}
+
+
+
+	//This method returns the position just after the first line terminator ('\n' or '\r') at or after the given position,
+	//or the file size if there is none
+	static long nextLineStart(FileChannel channel, long position, long size) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(4096);
+		while (position < size) {
+			buffer.clear();
+			int n = channel.read(buffer, position);
+			if (n <= 0)
+				break;
+			for (int i = 0; i < n; i++) {
+				byte b = buffer.get(i);
+				if (b == '\n' || b == '\r')
+					return position + i + 1;
+			}
+			position += n;
+		}
+		return size;
+	}
+
+
+
+	//This method parses every line of the given buffer in the processes.txt format and returns the processes
+	//Lines end at '\n' or '\r' like BufferedReader.readLine, columns are separated by whitespace, and only lines with
+	//at least 4 columns are parsed (their first 5 columns), exactly like readProcesses
+	static List<Process> parseProcesses(ByteBuffer buffer) {
+		List<Process> processes = new ArrayList<>();
+		int[] starts = new int[5], ends = new int[5]; //The positions of the first 5 columns of the current line
+		int limit = buffer.limit();
+		int i = 0;
+		while (i < limit) {
+			int count = 0; //The number of columns found on this line
+			//Find the columns of one line
+			while (i < limit) {
+				byte b = buffer.get(i);
+				if (b == '\n' || b == '\r') {
+					i++;
+					break;
+				}
+				if (b == ' ' || b == '\t' || b == '\f' || b == 0x0B) {
+					i++;
+					continue;
+				}
+				int start = i;
+				while (i < limit) {
+					b = buffer.get(i);
+					if (b == ' ' || b == '\t' || b == '\f' || b == 0x0B || b == '\n' || b == '\r')
+						break;
+					i++;
+				}
+				if (count < 5) {
+					starts[count] = start;
+					ends[count] = i;
+				}
+				count++;
+			}
+			//If there are at least 4 columns (PID, Arrival, Burst, Priority), create a new process
+			if (count >= 4) {
+				int pid = parseColumn(buffer, starts[0], ends[0]);
+				int arrival = parseColumn(buffer, starts[1], ends[1]);
+				int burst = parseColumn(buffer, starts[2], ends[2]);
+				int priority = parseColumn(buffer, starts[3], ends[3]);
+				//If a fifth column is present then parse the memory requirement; otherwise use the default of 100
+				int memoryReq = count >= 5 ? parseColumn(buffer, starts[4], ends[4]) : 100;
+				processes.add(new Process(pid, arrival, burst, priority, memoryReq));
+			}
+		}
+		return processes;
+	}
+
+
+
+	//This method parses a signed decimal integer from the given range of a buffer, following the rules of Integer.parseInt
+	static int parseColumn(ByteBuffer buffer, int start, int end) {
+		int i = start;
+		boolean negative = false;
+		//Read an optional sign
+		byte first = buffer.get(i);
+		if (first == '-' || first == '+') {
+			negative = first == '-';
+			i++;
+		}
+		//Accumulate the digits as a negative number so that Integer.MIN_VALUE can be represented
+		int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+		int result = 0;
+		if (i == end)
+			throw columnError(buffer, start, end);
+		for (; i < end; i++) {
+			int digit = buffer.get(i) - '0';
+			long next = result * 10L - digit;
+			//Reject anything that is not a digit or that would overflow an int
+			if (digit < 0 || digit > 9 || next < limit)
+				throw columnError(buffer, start, end);
+			result = (int) next;
+		}
+		return negative ? result : -result;
+	}
+
+
+
+	//This method creates the NumberFormatException thrown for a column that is not a valid integer
+	static NumberFormatException columnError(ByteBuffer buffer, int start, int end) {
+		byte[] bytes = new byte[end - start];
+		for (int i = start; i < end; i++) {
+			bytes[i - start] = buffer.get(i);
+		}
+		return new NumberFormatException("For input string: \"" + new String(bytes) + "\"");
+	}
+
+
+
+	//These variables describe the binary process trace format. A binary trace is a 24-byte header followed by one
+	//20-byte record per process, with every value stored little-endian:
+	//  header: int magic ("PSTR"), int version, int flags, int reserved (0), long record count
+	//  record: int pid, int arrival, int burst, int priority, int memoryRequirement
+	//Bit 0 of the flags is set when the records are sorted by arrival time
+	static final int BINARY_TRACE_MAGIC = 0x52545350;
+	static final int BINARY_TRACE_VERSION = 1;
+	static final int BINARY_TRACE_SORTED = 1;
+	static final int BINARY_TRACE_HEADER_BYTES = 24;
+	static final int BINARY_TRACE_RECORD_BYTES = 20;
+
+	//This class is a read-only list of processes backed by the records of a memory-mapped binary trace
+	//Records are decoded only when they are read, so loading a trace costs no more than mapping it
+	static class BinaryTrace extends AbstractList<Process> implements RandomAccess {
+		//This variable represents the number of records in each mapped segment (each segment stays below 2 GB)
+		static final int SEGMENT_SHIFT = 25;
+		//This array stores the mapped segments of the record area
+		MappedByteBuffer[] segments;
+		//This variable stores the number of records in the trace
+		int size;
+		//This variable is true if the header says the records are sorted by arrival time
+		boolean sortedByArrival;
+
+		//This constructor initializes a trace over the given mapped segments
+		BinaryTrace(MappedByteBuffer[] segments, int size, boolean sortedByArrival) {
+			this.segments = segments; //Assign the mapped segments
+			this.size = size; //Assign the number of records
+			this.sortedByArrival = sortedByArrival; //Assign the sorted flag from the header
+		}
+
+		//This method returns the given column (0 = PID, 1 = arrival, 2 = burst, 3 = priority, 4 = memory) of a record
+		int column(int index, int column) {
+			int offset = (index & ((1 << SEGMENT_SHIFT) - 1)) * BINARY_TRACE_RECORD_BYTES + column * 4;
+			return segments[index >>> SEGMENT_SHIFT].getInt(offset);
+		}
+
+		//This method decodes the record at the given index into a new process
+		@Override
+		public Process get(int index) {
+			Objects.checkIndex(index, size);
+			return new Process(column(index, 0), column(index, 1), column(index, 2), column(index, 3), column(index, 4));
+		}
+
+		//This method returns the number of records in the trace
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+
+
+
+	//This method returns true if the given file starts with the binary process trace magic number
+	static boolean isBinaryTrace(String filename) {
+		try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+			ByteBuffer magic = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+			while (magic.hasRemaining() && channel.read(magic) > 0) {
+			}
+			return !magic.hasRemaining() && magic.getInt(0) == BINARY_TRACE_MAGIC;
+		}
+		//If the file cannot be read it is not a binary trace; the loader reports the error
+		catch (IOException e) {
+			return false;
+		}
+	}
+
+
+
+	//This method memory-maps a binary process trace and returns its records as a read-only list of processes
+	//If the file cannot be read or is not a binary trace, an error is printed and an empty list is returned
+	static List<Process> readProcessesBinary(String filename) {
+		//Construct a Path object for the given filename
+		Path filePath = Paths.get(filename);
+		//Print the absolute file path
+		System.out.println("Reading file from: " + filePath.toAbsolutePath());
+		//Open the file as a channel
+		try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+			//Read and check the header
+			ByteBuffer header = ByteBuffer.allocate(BINARY_TRACE_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+			while (header.hasRemaining() && channel.read(header) > 0) {
+			}
+			long count = header.position() == BINARY_TRACE_HEADER_BYTES ? header.getLong(16) : -1;
+			if (count < 0 || header.getInt(0) != BINARY_TRACE_MAGIC || header.getInt(4) != BINARY_TRACE_VERSION) {
+				System.out.println("Error: File " + filename + " is not a binary process trace.");
+				return new ArrayList<>();
+			}
+			if (count > Integer.MAX_VALUE || channel.size() < BINARY_TRACE_HEADER_BYTES + count * BINARY_TRACE_RECORD_BYTES) {
+				System.out.println("Error: File " + filename + " is truncated or too large.");
+				return new ArrayList<>();
+			}
+			boolean sorted = (header.getInt(8) & BINARY_TRACE_SORTED) != 0;
+			//Map the record area in segments
+			int segmentRecords = 1 << BinaryTrace.SEGMENT_SHIFT;
+			MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((count + segmentRecords - 1) / segmentRecords)];
+			for (int i = 0; i < segments.length; i++) {
+				long first = (long) i * segmentRecords;
+				long records = Math.min(segmentRecords, count - first);
+				segments[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+						BINARY_TRACE_HEADER_BYTES + first * BINARY_TRACE_RECORD_BYTES, records * BINARY_TRACE_RECORD_BYTES);
+				segments[i].order(ByteOrder.LITTLE_ENDIAN);
+			}
+			return new BinaryTrace(segments, (int) count, sorted);
+		}
+		//Catch any I/O exceptions that occur while reading the file
+		catch (IOException e) {
+			//Print an error message if the file cannot be read
+			System.out.println("Error: File " + filename + " not found.");
+			return new ArrayList<>();
+		}
+	}
+
+
+
+	//This method converts a trace in the processes.txt format into a binary process trace
+	//The text file is streamed, so files of any length can be converted, and the sorted flag is set if every arrival is in order
+	static void convertTraceToBinary(String textFilename, String binaryFilename) {
+		//Open the text trace for reading and the binary trace for writing
+		try (TraceReader reader = new TraceReader(textFilename);
+			 FileChannel out = FileChannel.open(Paths.get(binaryFilename), StandardOpenOption.CREATE,
+					 StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+			long count = 0; //Initialize the number of records written
+			//Leave room for the header, which is written once the record count is known
+			out.position(BINARY_TRACE_HEADER_BYTES);
+			Process p;
+			//Append a record for each process, writing the buffer out whenever it fills up
+			while ((p = reader.next()) != null) {
+				if (buffer.remaining() < BINARY_TRACE_RECORD_BYTES) {
+					buffer.flip();
+					while (buffer.hasRemaining()) {
+						out.write(buffer);
+					}
+					buffer.clear();
+				}
+				buffer.putInt(p.pid).putInt(p.arrival).putInt(p.burst).putInt(p.priority).putInt(p.memoryRequirement);
+				count++;
+			}
+			buffer.flip();
+			while (buffer.hasRemaining()) {
+				out.write(buffer);
+			}
+			//Write the header at the start of the file
+			ByteBuffer header = ByteBuffer.allocate(BINARY_TRACE_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+			header.putInt(BINARY_TRACE_MAGIC).putInt(BINARY_TRACE_VERSION).putInt(reader.sorted ? BINARY_TRACE_SORTED : 0)
+				  .putInt(0).putLong(count);
+			header.flip();
+			long position = 0;
+			while (header.hasRemaining()) {
+				position += out.write(header, position);
+			}
+			System.out.println("Converted " + count + " processes from " + textFilename + " to " + binaryFilename);
+		}
+		//Catch any I/O exceptions that occur while converting the file
+		catch (IOException e) {
+			System.out.println("Error: File " + textFilename + " could not be converted to " + binaryFilename + ".");
+		}
+	}
+
+
+
+	//This class draws ranks 1..n with probability proportional to 1 / rank^exponent
+	//A guide table maps each of n equal slices of [0, 1) to the first rank whose cumulative probability reaches the
+	//slice, so a draw starts its search there and takes about one step instead of a branchy binary search
+	static class Zipf {
+		double[] cdf; //The cumulative probability of each rank
+		int[] guide; //The first candidate index for each slice
+
+		//This constructor builds the distribution of n ranks with the given exponent
+		Zipf(int n, double exponent) {
+			cdf = new double[n];
+			double total = 0;
+			for (int k = 1; k <= n; k++) {
+				total += 1 / Math.pow(k, exponent);
+				cdf[k - 1] = total;
+			}
+			for (int k = 0; k < n; k++) {
+				cdf[k] /= total;
+			}
+			cdf[n - 1] = 1.0; //Guard against rounding so every draw finds a rank
+			guide = new int[n];
+			for (int j = 0, i = 0; j < n; j++) {
+				while (cdf[i] < (double) j / n) {
+					i++;
+				}
+				guide[j] = i;
+			}
+		}
+
+		//This method draws a rank
+		int draw(SplittableRandom rand) {
+			double u = rand.nextDouble();
+			int i = guide[(int) (u * guide.length)];
+			while (cdf[i] < u) {
+				i++;
+			}
+			return i + 1;
+		}
+	}
+
+
+
+	//This class generates seeded synthetic traces in the processes.txt format, with an optional memory column
+	//Arrivals follow a Poisson process (exponential gaps), bursts are exponential or bimodal (a mix of two exponentials),
+	//and priorities and memory sizes follow Zipf distributions, so most processes are low priority and small
+	//The trace is generated in chunks of CHUNK_ROWS rows, each drawing from its own random streams derived from the seed,
+	//so the output depends only on the settings and not on the number of threads. A first parallel pass sums the
+	//arrival gaps of each chunk to find where each chunk starts in time; the second pass formats the chunks in parallel
+	//and writes them in order, with only a few chunks in memory at a time
+	static class TraceGenerator {
+		//This variable represents the number of rows in each chunk
+		static final int CHUNK_ROWS = 1 << 16;
+		//This variable represents the longest line a row can need: five 11-character numbers, separators and a line break
+		static final int MAX_LINE_BYTES = 5 * 12;
+
+		long rows = 1_000_000; //The number of processes to generate
+		long seed = 42; //The seed every random stream is derived from
+		double arrivalMean = 5.0; //The mean gap between arrivals
+		double shortBurstMean = 5.0, longBurstMean = 5.0; //The means of the two burst time modes
+		double shortBurstProbability = 1.0; //The probability of drawing from the short mode; 1 for exponential bursts
+		Zipf priorities = new Zipf(10, 1.0); //The distribution of the priority ranks
+		Zipf memorySizes; //The distribution of the memory size classes, or null for no memory column
+		int memoryUnit = 16; //The memory size of the smallest size class
+
+		//This method sets the burst distribution from "exp:MEAN" or "bimodal:SHORT_MEAN,LONG_MEAN,SHORT_PROBABILITY"
+		void burst(String spec) {
+			String[] parts = spec(spec, "exp", "bimodal");
+			if (parts[0].equals("exp")) {
+				expect(parts, 1, spec);
+				shortBurstMean = longBurstMean = positive(parts[1], spec);
+				shortBurstProbability = 1.0;
+			} else {
+				expect(parts, 3, spec);
+				shortBurstMean = positive(parts[1], spec);
+				longBurstMean = positive(parts[2], spec);
+				shortBurstProbability = Double.parseDouble(parts[3]);
+				if (!(shortBurstProbability >= 0 && shortBurstProbability <= 1)) {
+					throw new IllegalArgumentException("The short burst probability in '" + spec + "' must be between 0 and 1.");
+				}
+			}
+		}
+
+		//This method sets the priority distribution from "zipf:LEVELS,EXPONENT"; priority 0 is the most common
+		void priority(String spec) {
+			String[] parts = spec(spec, "zipf");
+			expect(parts, 2, spec);
+			priorities = new Zipf(whole(parts[1], spec), nonNegative(parts[2], spec));
+		}
+
+		//This method sets the memory distribution from "zipf:CLASSES,EXPONENT,UNIT", where size class k needs k * UNIT,
+		//or "none" for no memory column
+		void memory(String spec) {
+			if (spec.equals("none")) {
+				memorySizes = null;
+				return;
+			}
+			String[] parts = spec(spec, "zipf");
+			expect(parts, 3, spec);
+			memorySizes = new Zipf(whole(parts[1], spec), nonNegative(parts[2], spec));
+			memoryUnit = whole(parts[3], spec);
+			if ((long) memorySizes.cdf.length * memoryUnit > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("The largest memory size of '" + spec + "' must fit in an int.");
+			}
+		}
+
+		//This method splits a distribution spec into its name and parameters and checks the name
+		static String[] spec(String spec, String... names) {
+			int colon = spec.indexOf(':');
+			String name = colon < 0 ? spec : spec.substring(0, colon);
+			if (!Arrays.asList(names).contains(name)) {
+				throw new IllegalArgumentException("Unknown distribution '" + spec + "', expected " + String.join(" or ", names) + ".");
+			}
+			List<String> parts = new ArrayList<>(List.of(name));
+			if (colon >= 0) {
+				parts.addAll(Arrays.asList(spec.substring(colon + 1).split(",")));
+			}
+			return parts.toArray(new String[0]);
+		}
+
+		//This method checks that a distribution spec has the given number of parameters
+		static void expect(String[] parts, int parameters, String spec) {
+			if (parts.length != parameters + 1) {
+				throw new IllegalArgumentException("Distribution '" + spec + "' needs " + parameters + " parameter(s).");
+			}
+		}
+
+		//This method parses a positive distribution parameter
+		static double positive(String value, String spec) {
+			double x = Double.parseDouble(value);
+			if (!(x > 0) || Double.isInfinite(x)) {
+				throw new IllegalArgumentException("The parameters of '" + spec + "' must be positive.");
+			}
+			return x;
+		}
+
+		//This method parses a distribution parameter that must be a positive integer: a number of levels, of size classes
+		//or a memory unit
+		static int whole(String value, String spec) {
+			try {
+				int n = Integer.parseInt(value.trim());
+				if (n > 0) {
+					return n;
+				}
+			} catch (NumberFormatException e) {
+				//Fall through to the error below
+			}
+			throw new IllegalArgumentException("The levels, size classes and unit of '" + spec + "' must be positive integers.");
+		}
+
+		//This method parses a non-negative distribution parameter
+		static double nonNegative(String value, String spec) {
+			double x = Double.parseDouble(value);
+			if (!(x >= 0) || Double.isInfinite(x)) {
+				throw new IllegalArgumentException("The exponent of '" + spec + "' must not be negative.");
+			}
+			return x;
+		}
+
+		//This method draws from an exponential distribution with the given mean
+		static double exponential(double mean, SplittableRandom rand) {
+			return -Math.log(1 - rand.nextDouble()) * mean;
+		}
+
+		//This method returns one of the two random streams of a chunk: 0 for the arrival gaps, 1 for everything else
+		SplittableRandom stream(long chunk, int part) {
+			return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + chunk * 2 + part);
+		}
+
+		//This method returns the number of rows in the given chunk
+		int chunkRows(long chunk) {
+			return (int) Math.min(CHUNK_ROWS, rows - chunk * CHUNK_ROWS);
+		}
+
+		//This method returns the sum of the arrival gaps of a chunk
+		double gapSum(long chunk) {
+			SplittableRandom gaps = stream(chunk, 0);
+			double sum = 0;
+			for (int i = chunkRows(chunk); i > 0; i--) {
+				sum += exponential(arrivalMean, gaps);
+			}
+			return sum;
+		}
+
+		//This method formats the rows of a chunk whose first arrival happens at the given time
+		ByteBuffer formatChunk(long chunk, double time) {
+			SplittableRandom gaps = stream(chunk, 0), values = stream(chunk, 1);
+			int n = chunkRows(chunk);
+			byte[] out = new byte[n * MAX_LINE_BYTES];
+			int length = 0;
+			int pid = (int) (chunk * CHUNK_ROWS + 1);
+			for (int i = 0; i < n; i++, pid++) {
+				int arrival = (int) time;
+				time += exponential(arrivalMean, gaps);
+				double mean = values.nextDouble() < shortBurstProbability ? shortBurstMean : longBurstMean;
+				int burst = (int) Math.max(1, Math.min(Integer.MAX_VALUE, Math.round(exponential(mean, values))));
+				int priority = priorities.draw(values) - 1;
+				length = putNumber(out, length, pid, ' ');
+				length = putNumber(out, length, arrival, ' ');
+				length = putNumber(out, length, burst, ' ');
+				if (memorySizes == null) {
+					length = putNumber(out, length, priority, '\n');
+				} else {
+					length = putNumber(out, length, priority, ' ');
+					length = putNumber(out, length, memorySizes.draw(values) * memoryUnit, '\n');
+				}
+			}
+			return ByteBuffer.wrap(out, 0, length);
+		}
+
+		//This variable holds the powers of ten used to count digits
+		static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+				1_000_000_000L, 10_000_000_000L};
+		//This variable holds the two ASCII digits of every number from 0 to 99
+		static final byte[] DIGIT_PAIRS = new byte[200];
+		static {
+			for (int i = 0; i < 100; i++) {
+				DIGIT_PAIRS[2 * i] = (byte) ('0' + i / 10);
+				DIGIT_PAIRS[2 * i + 1] = (byte) ('0' + i % 10);
+			}
+		}
+
+		//This method writes the decimal digits of a non-negative number followed by the given separator and returns the
+		//position after them; the digits are counted from the bit length and written two at a time from the end
+		static int putNumber(byte[] out, int position, int value, char separator) {
+			int digits = 1 + ((31 - Integer.numberOfLeadingZeros(value | 1)) * 1233 >>> 12);
+			if (value >= POWERS_OF_TEN[digits]) {
+				digits++;
+			}
+			int end = position + digits;
+			out[end] = (byte) separator;
+			int i = end;
+			while (value >= 10) {
+				int pair = (value % 100) * 2;
+				value /= 100;
+				out[--i] = DIGIT_PAIRS[pair + 1];
+				out[--i] = DIGIT_PAIRS[pair];
+			}
+			if (i > position) {
+				out[--i] = (byte) ('0' + value);
+			}
+			return end + 1;
+		}
+
+
+		//This method writes the trace to the given file using the given number of threads
+		//Throws IllegalArgumentException if the settings would produce a process ID or arrival time beyond the int range
+		void write(String filename, int threads) throws IOException, InterruptedException, ExecutionException {
+			if (rows > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("At most " + Integer.MAX_VALUE + " rows can be generated.");
+			}
+			long chunks = (rows + CHUNK_ROWS - 1) / CHUNK_ROWS;
+			//Find the time each chunk starts at from the gap sums of the chunks before it
+			double[] starts = new double[(int) chunks];
+			double[] sums = IntStream.range(0, (int) chunks).parallel().mapToDouble(this::gapSum).toArray();
+			for (int c = 1; c < chunks; c++) {
+				starts[c] = starts[c - 1] + sums[c - 1];
+			}
+			if (chunks > 0 && starts[(int) chunks - 1] + sums[(int) chunks - 1] > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("The arrival times would pass " + Integer.MAX_VALUE + "; use fewer rows or a smaller arrival mean.");
+			}
+			ExecutorService pool = Executors.newFixedThreadPool(threads);
+			try (FileChannel out = FileChannel.open(Paths.get(filename), StandardOpenOption.CREATE,
+					StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+				String header = "PID Arrival_Time Burst_Time Priority" + (memorySizes == null ? "" : " Memory") + "\n";
+				out.write(ByteBuffer.wrap(header.getBytes()));
+				//Format the chunks in parallel and write them in order, keeping at most two chunks per thread in flight
+				ArrayDeque<Future<ByteBuffer>> pending = new ArrayDeque<>();
+				for (long c = 0; c < chunks; c++) {
+					long chunk = c;
+					pending.add(pool.submit(() -> formatChunk(chunk, starts[(int) chunk])));
+					if (pending.size() >= 2 * threads) {
+						writeFully(out, pending.poll().get());
+					}
+				}
+				while (!pending.isEmpty()) {
+					writeFully(out, pending.poll().get());
+				}
+			} finally {
+				pool.shutdownNow();
+			}
+		}
+
+		//This method writes the whole buffer to the channel
+		static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+			while (buffer.hasRemaining()) {
+				out.write(buffer);
+			}
+		}
+	}
+
+
+
+	//This class buffers report output and pads fixed-width fields by hand into a reusable char buffer
+	//Formatting every process line with printf costs more than scheduling a million processes, so the report lines
+	//are written here and handed to System.out in large blocks; call flush before printing to System.out directly
+	static class ReportWriter {
+		char[] buffer; //The buffered report text
+		int length; //The number of buffered characters
+		char[] digits = new char[20]; //The scratch space for formatting numbers
+
+		//This constructor initializes a report writer with a buffer of the given number of characters
+		ReportWriter(int capacity) {
+			buffer = new char[capacity];
+		}
+
+		//This method appends a character
+		ReportWriter print(char c) {
+			if (length == buffer.length) {
+				drain();
+			}
+			buffer[length++] = c;
+			return this;
+		}
+
+		//This method appends a string
+		ReportWriter print(String s) {
+			for (int from = 0; from < s.length(); ) {
+				if (length == buffer.length) {
+					drain();
+				}
+				int n = Math.min(s.length() - from, buffer.length - length);
+				s.getChars(from, from + n, buffer, length);
+				length += n;
+				from += n;
+			}
+			return this;
+		}
+
+		//This method appends a number
+		ReportWriter print(long v) {
+			int n = toDigits(v);
+			for (int i = digits.length - n; i < digits.length; i++) {
+				print(digits[i]);
+			}
+			return this;
+		}
+
+		//This method appends a string left-aligned in a field of the given width, like %-<width>s
+		ReportWriter pad(String s, int width) {
+			return print(s).spaces(width - s.length());
+		}
+
+		//This method appends a number left-aligned in a field of the given width, like %-<width>d
+		ReportWriter pad(long v, int width) {
+			int n = toDigits(v);
+			for (int i = digits.length - n; i < digits.length; i++) {
+				print(digits[i]);
+			}
+			return spaces(width - n);
+		}
+
+		//This method appends the given number of spaces, if positive
+		ReportWriter spaces(int n) {
+			for (int i = 0; i < n; i++) {
+				print(' ');
+			}
+			return this;
+		}
+
+		//This method appends a line break
+		ReportWriter println() {
+			return print('\n');
+		}
+
+		//This method writes the decimal digits of v right-aligned into the scratch space and returns their count
+		int toDigits(long v) {
+			int i = digits.length;
+			long rest = v;
+			do {
+				digits[--i] = (char) ('0' + Math.abs(rest % 10));
+				rest /= 10;
+			} while (rest != 0);
+			if (v < 0) {
+				digits[--i] = '-';
+			}
+			return digits.length - i;
+		}
+
+		//This method hands the buffered text to System.out without flushing it
+		void drain() {
+			System.out.append(CharBuffer.wrap(buffer, 0, length));
+			length = 0;
+		}
+
+		//This method hands the buffered text to System.out and flushes it
+		void flush() {
+			drain();
+			System.out.flush();
+		}
+	}
+
+	//This variable is the report writer used for Gantt charts and process lines; it is only written by the thread printing
+	static final ReportWriter report = new ReportWriter(1 << 16);
+
+	//This variable is true in quiet mode, where Gantt charts and per-process lines are not printed
+	static boolean quiet = false;
+
+	//This variable is true if the full run statistics are printed after the averages
+	static boolean fullStatistics = false;
+
+	//This variable is the number of segments shown at each end of a Gantt chart, or 0 to show the whole chart
+	static int ganttLimit = 0;
+
+
+
+
+
+
+	//This class stores a Gantt chart timeline as parallel int arrays of process IDs, start times and finish times
+	//A segment costs three ints and no label string; labels are only rendered when printing.
+	//A segment that continues the last one for the same process is merged into it, so the timeline grows with the number
+	//of context switches rather than the number of scheduling events
+	//If an exporter is set the timeline only holds its last segment, which may still be extended, and writes every
+	//earlier segment to the exporter as soon as a new one starts
+	static class Timeline {
+		//This variable is the process ID stored for idle segments
+		static final int IDLE = Integer.MIN_VALUE;
+		int[] pid = new int[16], start = new int[16], finish = new int[16]; //The segment columns
+		int size; //The number of segments held
+		RecordExporter exporter; //The exporter the segments are written to, or null to keep them
+		String algorithm; //The algorithm named in each exported record
+		int cpu; //The CPU named in each exported record
+
+		//This constructor initializes an empty timeline that keeps its segments
+		Timeline() {
+		}
+
+		//This constructor initializes an empty timeline that streams its segments to the given exporter
+		Timeline(RecordExporter exporter, String algorithm, int cpu) {
+			this.exporter = exporter;
+			this.algorithm = algorithm;
+			this.cpu = cpu;
+		}
+
+		//This method appends a segment, or extends the last segment if the new one continues it for the same process
+		void append(int segmentPid, int segmentStart, int segmentFinish) {
+			if (size > 0 && pid[size - 1] == segmentPid && finish[size - 1] == segmentStart) {
+				finish[size - 1] = segmentFinish;
+				return;
+			}
+			if (exporter != null) {
+				flush();
+			} else if (size == pid.length) {
+				int capacity = size + (size >> 1);
+				pid = Arrays.copyOf(pid, capacity);
+				start = Arrays.copyOf(start, capacity);
+				finish = Arrays.copyOf(finish, capacity);
+			}
+			pid[size] = segmentPid;
+			start[size] = segmentStart;
+			finish[size] = segmentFinish;
+			size++;
+		}
+
+		//This method returns the finish time of the last segment, or 0 if the timeline is empty
+		int end() {
+			return size == 0 ? 0 : finish[size - 1];
+		}
+
+		//This method returns the label of a segment, "Idle" or "P" followed by the process ID
+		String label(int i) {
+			return pid[i] == IDLE ? "Idle" : "P" + pid[i];
+		}
+
+		//This method writes the held segments to the exporter; call it once the run has finished
+		void flush() {
+			for (int i = 0; i < size; i++) {
+				exporter.segment(algorithm, cpu, label(i), start[i], finish[i]);
+			}
+			size = 0;
+		}
+	}
+
+	//This method prints a text-based Gantt chart representing the scheduling timeline
+	//If ganttLimit is set and the chart is longer than twice the limit, only the first and last ganttLimit segments are
+	//shown with a "..." block between them, so printing a huge run stays bounded. Labels are written straight into the
+	//report, so no label strings are created
+	static void printGanttChart(Timeline gantt) {
+		//If the Gantt chart is empty then inform the user and return
+		if (gantt.size == 0) {
+			report.print("\nNo Gantt chart to display.").println().flush();
+			return;
+		}
+		int blockWidth = 6; //Define the width of each block in the chart
+		int size = gantt.size;
+		//Determine where the omitted middle of the chart starts and ends
+		int head = size, tail = size;
+		if (ganttLimit > 0 && size > 2 * ganttLimit) {
+			head = ganttLimit;
+			tail = size - ganttLimit;
+		}
+		//Print the header for the Gantt chart
+		report.print("\nGantt Chart:");
+		if (head < tail) {
+			report.print(" (first ").print(head).print(" and last ").print(size - tail).print(" of ").print(size).print(" segments)");
+		}
+		report.println();
+		//Print the top line (labels) of the chart, each label padded within its block
+		for (int i = 0; i < size; i++) {
+			if (i == head) {
+				report.print('|').pad("...", blockWidth);
+				i = tail;
+			}
+			if (gantt.pid[i] == Timeline.IDLE) {
+				report.print('|').pad("Idle", blockWidth);
+			} else {
+				report.print("|P").pad(gantt.pid[i], blockWidth - 1);
+			}
+		}
+		report.println();
+		//Print the bottom line (time markers) of the chart, each start time padded within its block
+		for (int i = 0; i < size; i++) {
+			if (i == head) {
+				report.print('|').pad("...", blockWidth);
+				i = tail;
+			}
+			report.print('|').pad(gantt.start[i], blockWidth);
+		}
+		//Print the final finish time at the end of the bottom line
+		report.print("Finish:").print(gantt.end()).println().flush();
+	}
+
+
+
+
+
+
+	//This method prints the details and computed metrics of the given processes in the given order, followed by the
+	//averages and, if fullStatistics is set, the rest of the run statistics
+	//If withPriority is true, the priority of each process is printed as well
+	static void printProcessResults(ProcessTable t, int[] order, boolean withPriority, RunStatistics statistics) {
+		//For each process, print the process details and computed metrics
+		if (!quiet) {
+			for (int i : order) {
+				printProcessLine(t.pid[i], t.cpuInit[i], t.waiting[i], t.turnaround(i));
+				if (withPriority) {
+					report.print(" | Priority: ").print(t.priority[i]);
+				}
+				report.println();
+			}
+		}
+		report.flush();
+		printAverages(statistics);
+	}
+
+	//This method prints the average waiting time and average turnaround time and, if fullStatistics is set, the rest of
+	//the given run statistics
+	static void printAverages(RunStatistics statistics) {
+		System.out.printf("Average Waiting Time: %.2f\n", statistics.waiting.mean());
+		System.out.printf("Average Turnaround Time: %.2f\n", statistics.turnaround.mean());
+		if (fullStatistics)
+			statistics.print();
+	}
+
+
+
+	//This method writes the metrics of one process to the report, without the line break
+	static void printProcessLine(int pid, int cpuInit, int waiting, int turnaround) {
+		report.print("PID: ").pad(pid, 3).print(" | CPU Init: ").pad(cpuInit, 3)
+				.print(" | Waiting Time: ").pad(waiting, 3).print(" | Turnaround Time: ").pad(turnaround, 3);
+	}
+
+
+
+	//This class streams result records to a CSV or JSONL file, chosen by the file extension
+	//Each record is written as soon as it is given, through a buffered writer, so a run never holds its records in memory.
+	//The record methods are synchronized so that concurrent runs can share one file; every record names its algorithm
+	static class RecordExporter implements Closeable {
+		BufferedWriter out; //The buffered file writer
+		boolean json; //True for JSONL, false for CSV
+		String[] columns; //The column names, written as the CSV header or used as the JSON keys
+		int column; //The index of the next column of the current record
+
+		//This constructor creates the file and, for CSV, writes the header; the extension must be .csv or .jsonl
+		RecordExporter(String filename, String... columns) throws IOException {
+			if (filename.endsWith(".jsonl")) {
+				json = true;
+			} else if (!filename.endsWith(".csv")) {
+				throw new IllegalArgumentException("Export file " + filename + " must end with .csv or .jsonl.");
+			}
+			this.columns = columns;
+			out = new BufferedWriter(new FileWriter(filename), 1 << 16);
+			if (!json) {
+				out.write(String.join(",", columns));
+				out.newLine();
+			}
+		}
+
+		//This method writes one per-process record
+		synchronized void process(String algorithm, int pid, int cpuInit, int waiting, int turnaround, int completion, int priority) {
+			begin();
+			text(algorithm).number(pid).number(cpuInit).number(waiting).number(turnaround).number(completion).number(priority);
+			end();
+		}
+
+		//This method writes one Gantt chart segment record; cpu is the CPU of the segment, 0 for single CPU runs
+		synchronized void segment(String algorithm, int cpu, String label, int start, int finish) {
+			begin();
+			text(algorithm).number(cpu).text(label).number(start).number(finish);
+			end();
+		}
+
+		//This method starts a record
+		void begin() {
+			column = 0;
+			if (json) {
+				write("{");
+			}
+		}
+
+		//This method writes the name of the next column for JSON or the separator for CSV
+		void key() {
+			if (json) {
+				write((column > 0 ? ",\"" : "\"") + columns[column] + "\":");
+			} else if (column > 0) {
+				write(",");
+			}
+			column++;
+		}
+
+		//This method writes a number field
+		RecordExporter number(long value) {
+			key();
+			write(Long.toString(value));
+			return this;
+		}
+
+		//This method writes a text field, quoted for CSV only if it contains a separator or quote
+		RecordExporter text(String value) {
+			key();
+			if (json) {
+				StringBuilder quoted = new StringBuilder("\"");
+				for (int i = 0; i < value.length(); i++) {
+					char c = value.charAt(i);
+					if (c == '"' || c == '\\') {
+						quoted.append('\\').append(c);
+					} else if (c < 0x20) {
+						quoted.append(String.format("\\u%04x", (int) c));
+					} else {
+						quoted.append(c);
+					}
+				}
+				write(quoted.append('"').toString());
+			} else if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0) {
+				write("\"" + value.replace("\"", "\"\"") + "\"");
+			} else {
+				write(value);
+			}
+			return this;
+		}
+
+		//This method ends a record
+		void end() {
+			write(json ? "}\n" : "\n");
+		}
+
+		//This method writes text to the file; a write error is rethrown unchecked so it can leave a running scheduler
+		void write(String text) {
+			try {
+				out.write(text);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		//This method flushes and closes the file
+		@Override
+		public void close() throws IOException {
+			out.close();
+		}
+	}
+
+	//This variable lists the columns of the per-process export
+	static final String[] PROCESS_EXPORT_COLUMNS = {"algorithm", "pid", "cpuInit", "waiting", "turnaround", "completion", "priority"};
+	//This variable lists the columns of the Gantt chart export
+	static final String[] GANTT_EXPORT_COLUMNS = {"algorithm", "cpu", "label", "start", "finish"};
+
+	//This method writes a per-process record for every process of a result, in the order they are reported
+	static void exportProcesses(RecordExporter exporter, String algorithm, ScheduleResult result) {
+		for (int i : result.order) {
+			ProcessTable t = result.table;
+			exporter.process(algorithm, t.pid[i], t.cpuInit[i], t.waiting[i], t.turnaround(i), t.completion[i], t.priority[i]);
+		}
+	}
+
+
+
+	//This method sorts the given process indices by process ID; processes with the same ID keep their relative order
+	static void sortByPid(ProcessTable t, int[] order) {
+		long[] keys = new long[order.length];
+		for (int i = 0; i < order.length; i++) {
+			keys[i] = ReadyHeap.key(t.pid[order[i]], i);
+		}
+		Arrays.sort(keys);
+		int[] sorted = new int[order.length];
+		for (int i = 0; i < order.length; i++) {
+			sorted[i] = order[ReadyHeap.index(keys[i])];
+		}
+		System.arraycopy(sorted, 0, order, 0, order.length);
+	}
+
+
+
+
+
+
+	//This class holds the result of one scheduling run so that it can be printed after the run has finished
+	static class ScheduleResult {
+		//This variable stores the title printed in the header of the result
+		String title;
+		//This variable stores the process table whose run columns hold the results of this run
+		ProcessTable table;
+		//This variable stores the Gantt chart of the run
+		Timeline gantt;
+		//This array stores the process indices in the order they are reported
+		int[] order;
+		//This variable is true if the priority of each process is reported
+		boolean withPriority;
+		//This variable stores an error message if the run could not be made, or null
+		String error;
+		//This variable stores one Gantt chart lane per CPU for multiprocessor runs, or null for single CPU runs
+		Timeline[] lanes;
+		//This list stores extra report lines printed after the averages
+		List<String> notes = new ArrayList<>();
+		//This variable stores the metrics of the run, or null if metrics are disabled
+		RunMetrics metrics;
+		//This variable stores the statistics the scheduling kernel accumulated as each process finished
+		RunStatistics statistics;
+
+		//This constructor initializes a result with all given parameters
+		ScheduleResult(String title, ProcessTable table, Timeline gantt, int[] order, boolean withPriority, RunStatistics statistics) {
+			this.title = title; //Assign the title
+			this.table = table; //Assign the process table holding the results
+			this.gantt = gantt; //Assign the Gantt chart
+			this.order = order; //Assign the report order
+			this.withPriority = withPriority; //Assign whether priorities are reported
+			this.statistics = statistics; //Assign the run statistics
+		}
+
+		//This constructor initializes a result for a run that could not be made
+		ScheduleResult(String title, String error) {
+			this(title, null, null, new int[0], false, new RunStatistics(1));
+			this.error = error; //Assign the error message
+		}
+
+		//This method returns the average waiting time of the run
+		double averageWaiting() {
+			return statistics.waiting.mean();
+		}
+
+		//This method returns the average turnaround time of the run
+		double averageTurnaround() {
+			return statistics.turnaround.mean();
+		}
+
+		//This method returns the time the last process finished
+		int makespan() {
+			return statistics.makespan;
+		}
+
+		//This method prints the header, the Gantt chart (one lane per CPU for multiprocessor runs), the results of each
+		//process and any extra report lines; in quiet mode the Gantt chart and per-process lines are left out
+		void print() {
+			long begin = System.nanoTime();
+			printReport();
+			if (metrics != null)
+				metrics.reportNanos = System.nanoTime() - begin;
+		}
+
+		//This method prints the report of the run
+		void printReport() {
+			System.out.println("\n--- " + title + " ---");
+			//If the run could not be made, print the error
+			if (error != null) {
+				System.out.println(error);
+				return;
+			}
+			//If there were no processes to schedule, inform the user
+			if (order.length == 0) {
+				System.out.println("No processes to schedule.");
+				return;
+			}
+			if (!quiet) {
+				if (lanes == null) {
+					if (gantt != null)
+						printGanttChart(gantt);
+				} else {
+					for (int cpu = 0; cpu < lanes.length; cpu++) {
+						report.print("\nCPU ").print(cpu).print(':');
+						printGanttChart(lanes[cpu]);
+					}
+				}
+			}
+			printProcessResults(table, order, withPriority, statistics);
+			for (String note : notes) {
+				System.out.println(note);
+			}
+		}
+	}
+
+
+
+	//This class is a log-linear histogram of non-negative values in the style of an HDR histogram
+	//Values below 128 are counted exactly; larger values fall into 64 buckets per power of two, so every reported
+	//percentile is within 1/64 (about 1.6%) of the true value while the histogram stays a fixed array of 3776 counts
+	static class Histogram {
+		//This variable is the number of buckets per power of two above the exact range
+		static final int SUB_BUCKETS = 64;
+		//This variable is the number of values counted exactly
+		static final int EXACT = 2 * SUB_BUCKETS;
+		long[] counts = new long[EXACT + 57 * SUB_BUCKETS]; //The count of each bucket
+		long count; //The number of recorded values
+		long min = Long.MAX_VALUE, max = Long.MIN_VALUE; //The smallest and largest recorded values
+		long total; //The exact sum of the recorded values, so the mean matches a plain sum
+		double runningMean, squares; //The running mean and sum of squared deviations (Welford's method) for the variance
+
+		//This method returns the bucket of the given value
+		static int bucket(long value) {
+			if (value < EXACT) {
+				return (int) value;
+			}
+			int shift = 63 - Long.numberOfLeadingZeros(value) - 6; //Keep the top 7 bits of the value
+			return EXACT + (shift - 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+		}
+
+		//This method returns the largest value that falls into the given bucket
+		static long highest(int bucket) {
+			if (bucket < EXACT) {
+				return bucket;
+			}
+			int shift = (bucket - EXACT) / SUB_BUCKETS + 1;
+			long top = (bucket - EXACT) % SUB_BUCKETS + SUB_BUCKETS;
+			return ((top + 1) << shift) - 1;
+		}
+
+		//This method records one value; negative values are counted as 0
+		void record(long value) {
+			value = Math.max(0, value);
+			counts[bucket(value)]++;
+			count++;
+			min = Math.min(min, value);
+			max = Math.max(max, value);
+			total += value;
+			double delta = value - runningMean;
+			runningMean += delta / count;
+			squares += delta * (value - runningMean);
+		}
+
+		//This method returns the mean of the recorded values, or 0 if nothing was recorded
+		double mean() {
+			return count == 0 ? 0.0 : (double) total / count;
+		}
+
+		//This method returns the population variance of the recorded values
+		double variance() {
+			return count == 0 ? 0.0 : squares / count;
+		}
+
+		//This method returns the value at the given percentile (0 to 100), or 0 if nothing was recorded
+		long percentile(double percentile) {
+			if (count == 0) {
+				return 0;
+			}
+			long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count)); //The rank of the wanted value
+			long seen = 0;
+			for (int b = 0; b < counts.length; b++) {
+				seen += counts[b];
+				if (seen >= rank) {
+					return Math.min(highest(b), max);
+				}
+			}
+			return max;
+		}
+	}
+
+	//This class accumulates the statistics of a scheduling run in a single pass, one call to complete per finished process
+	//Waiting, turnaround and response times each keep an exact mean, a running variance, their extremes and a histogram
+	//sketch for percentiles, so neither the finished processes nor a second pass over them are needed
+	static class RunStatistics {
+		int cpus; //The number of CPUs of the run
+		Histogram waiting = new Histogram(), turnaround = new Histogram(), response = new Histogram(); //The time distributions
+		long busy; //The total burst time of the finished processes
+		int makespan; //The time the last process finished
+		double share, shareSquares; //The sum and sum of squares of each process's share of its turnaround spent running
+
+		//This constructor initializes the statistics of a run on the given number of CPUs
+		RunStatistics(int cpus) {
+			this.cpus = cpus;
+		}
+
+		//This method adds a finished process to the statistics
+		void complete(int arrival, int burst, int cpuInit, int waitingTime, int completion) {
+			int turnaroundTime = completion - arrival;
+			waiting.record(waitingTime);
+			turnaround.record(turnaroundTime);
+			response.record(cpuInit - arrival);
+			busy += burst;
+			makespan = Math.max(makespan, completion);
+			//A process that never had to wait has a share of 1
+			double x = turnaroundTime <= 0 ? 1.0 : (double) burst / turnaroundTime;
+			share += x;
+			shareSquares += x * x;
+		}
+
+		//This method returns the number of finished processes
+		long count() {
+			return waiting.count;
+		}
+
+		//This method returns the number of processes finished per time unit
+		double throughput() {
+			return makespan == 0 ? 0.0 : (double) count() / makespan;
+		}
+
+		//This method returns the fraction of the CPU time up to the makespan that was spent running processes
+		double utilization() {
+			return makespan == 0 ? 0.0 : (double) busy / ((long) cpus * makespan);
+		}
+
+		//This method returns Jain's fairness index of the running shares, from 1/n (one process got everything) to 1 (equal)
+		double fairness() {
+			return shareSquares == 0 ? 1.0 : share * share / (count() * shareSquares);
+		}
+
+		//This method prints the full statistics of the run
+		void print() {
+			printDistribution("Waiting Time", waiting);
+			printDistribution("Turnaround Time", turnaround);
+			printDistribution("Response Time", response);
+			System.out.printf("Throughput: %.4f processes per time unit | CPU Utilization: %.2f%% | Jain's Fairness Index: %.4f\n",
+							  throughput(), 100 * utilization(), fairness());
+		}
+
+		//This method prints the mean, standard deviation, extremes and percentiles of one distribution
+		static void printDistribution(String name, Histogram histogram) {
+			if (histogram.count == 0) {
+				return;
+			}
+			System.out.printf("%-16s Mean: %.2f | Std Dev: %.2f | Min: %d | Max: %d | p50: %d | p90: %d | p99: %d\n", name + ":",
+							  histogram.mean(), Math.sqrt(histogram.variance()), histogram.min, histogram.max,
+							  histogram.percentile(50), histogram.percentile(90), histogram.percentile(99));
+		}
+	}
+
+	//This class holds the counters and timings of one scheduling run
+	//The scheduling kernels only touch it through dispatch, and only if the run has one, so a run without metrics pays a
+	//single null check per dispatch
+	static class RunMetrics {
+		int cpus; //The number of CPUs of the run
+		long dispatches; //The number of times a process was given a CPU
+		long contextSwitches; //The number of dispatches that replaced a different process on the same CPU
+		long idleTime; //The total time the CPUs had nothing to run
+		int maxQueueLength; //The largest number of processes waiting in the ready queue at a dispatch
+		long begin; //The System.nanoTime at which the run started
+		long scheduleNanos, reportNanos; //The wall-clock time spent scheduling and printing the report
+		int[] last; //The process last dispatched on each CPU, or -1
+
+		//This constructor initializes the metrics of a run on the given number of CPUs
+		RunMetrics(int cpus) {
+			this.cpus = cpus;
+			last = new int[cpus];
+			Arrays.fill(last, -1);
+			begin = System.nanoTime();
+		}
+
+		//This method counts the dispatch of a process on a CPU while the given number of processes wait in the ready queue
+		void dispatch(int cpu, int process, int queued) {
+			dispatches++;
+			if (last[cpu] != -1 && last[cpu] != process) {
+				contextSwitches++;
+			}
+			last[cpu] = process;
+			if (queued > maxQueueLength) {
+				maxQueueLength = queued;
+			}
+		}
+
+		//This method records the idle time of a finished run
+		void record(ScheduleResult result) {
+			RunStatistics statistics = result.statistics;
+			idleTime = Math.max(0, (long) cpus * statistics.makespan - statistics.busy);
+		}
+	}
+
+	//This class collects the metrics of a command line session; it only exists while metrics are enabled
+	static class MetricsRegistry {
+		long parseNanos; //The wall-clock time spent reading the trace
+
+		//This method prints the parsing time and the metrics of each given scheduling run
+		void print(List<ScheduleResult> results) {
+			System.out.println("\n--- Metrics ---");
+			System.out.printf("Parsing: %.3f ms\n", parseNanos / 1e6);
+			for (ScheduleResult result : results) {
+				RunMetrics m = result.metrics;
+				if (m == null) {
+					continue;
+				}
+				System.out.println("\n" + result.title + ":");
+				System.out.printf("  Dispatches: %d, Context Switches: %d, Idle Time: %d, Max Queue Length: %d\n",
+								  m.dispatches, m.contextSwitches, m.idleTime, m.maxQueueLength);
+				System.out.printf("  Scheduling: %.3f ms, Reporting: %.3f ms\n", m.scheduleNanos / 1e6, m.reportNanos / 1e6);
+				printPercentiles("Waiting Time", result.statistics.waiting);
+				printPercentiles("Turnaround Time", result.statistics.turnaround);
+			}
+		}
+
+		//This method prints the p50, p99, p99.9 and largest value of a histogram
+		static void printPercentiles(String name, Histogram histogram) {
+			System.out.printf("  %-17s p50: %d, p99: %d, p99.9: %d, max: %d\n", name + ":", histogram.percentile(50),
+							  histogram.percentile(99), histogram.percentile(99.9), histogram.count == 0 ? 0 : histogram.max);
+		}
+	}
+
+	//This variable is the metrics registry, or null while metrics are disabled
+	static MetricsRegistry metricsRegistry = null;
+
+	//This method returns new metrics for a run on the given number of CPUs, or null if metrics are disabled
+	static RunMetrics startMetrics(int cpus) {
+		return metricsRegistry == null ? null : new RunMetrics(cpus);
+	}
+
+	//This method finishes the metrics of a run, if any, attaches them to its result and returns the result
+	static ScheduleResult finishMetrics(ScheduleResult result, RunMetrics metrics) {
+		if (metrics != null) {
+			metrics.scheduleNanos = System.nanoTime() - metrics.begin;
+			metrics.record(result);
+			result.metrics = metrics;
+		}
+		return result;
+	}
+
+
+
+	//This method runs the given scheduling runs and returns their results in the same order
+	//If parallel is true the runs execute concurrently on a thread pool with at most one thread per run; each run shares
+	//the read-only columns of its table and keeps its own run columns, so the results are the same as running them in turn
+	static List<ScheduleResult> runSchedules(List<Callable<ScheduleResult>> runs, boolean parallel)
+			throws InterruptedException, ExecutionException {
+		List<ScheduleResult> results = new ArrayList<>();
+		//If the runs are not parallel, run them one after another
+		if (!parallel) {
+			for (Callable<ScheduleResult> run : runs) {
+				try {
+					results.add(run.call());
+				} catch (Exception e) {
+					throw new ExecutionException(e);
+				}
+			}
+			return results;
+		}
+		ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(runs.size(), Runtime.getRuntime().availableProcessors())));
+		try {
+			for (Future<ScheduleResult> result : pool.invokeAll(runs)) {
+				results.add(result.get());
+			}
+			return results;
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+
+
+	//This method runs First-Come, First-Served scheduling over a process table in arrival order
+	//Processes that arrive at the same time run in table order. The indices of the processes are stored in finished in
+	//the order they complete and each one is added to statistics as it does, and the Gantt chart is only recorded if
+	//gantt is not null
+	static void fcfsSchedule(ProcessTable t, Timeline gantt, int[] finished, RunStatistics statistics, RunMetrics metrics) {
+		int[] order = t.arrivalOrder;
+		int time = 0; //Initialize simulation time to 0
+		int arrived = 0; //Initialize the number of processes that have arrived, counted only for the metrics
+		//For each process in FCFS order
+		for (int k = 0; k < t.size; k++) {
+			int i = order[k];
+			//If the current time is less than the process arrival time, add an idle segment and update time
+			if (time < t.arrival[i]) {
+				if (gantt != null)
+					gantt.append(Timeline.IDLE, time, t.arrival[i]);
+				time = t.arrival[i];
+			}
+			int start = time; //Record the start time for the process
+			if (metrics != null) {
+				while (arrived < t.size && t.arrival[t.arrivalOrder[arrived]] <= start) {
+					arrived++;
+				}
+				metrics.dispatch(0, i, arrived - k - 1);
+			}
+			//If the CPU initialization time is not yet set, set it now
+			if (t.cpuInit[i] == -1) {
+				t.cpuInit[i] = start;
+			}
+			t.waiting[i] = time - t.arrival[i]; //Calculate the waiting time
+			time += t.burst[i]; //Increment time by the burst time of the process
+			t.completion[i] = time; //Set the completion time
+			statistics.complete(t.arrival[i], t.burst[i], t.cpuInit[i], t.waiting[i], time); //Add the process to the statistics
+			//Add a Gantt segment for the process
+			if (gantt != null)
+				gantt.append(t.pid[i], start, time);
+			finished[k] = i;
+		}
+	}
+
+	//This method simulates First-Come, First-Served scheduling
+	static void fcfsScheduling(List<Process> processes) {
+		fcfsScheduling(new ProcessTable(processes));
+	}
+
+	//This method runs fcfsResult with the Gantt chart recorded into a new list
+	static ScheduleResult fcfsResult(ProcessTable table) {
+		return fcfsResult(table, new Timeline());
+	}
+
+	//This method runs First-Come, First-Served scheduling on its own copy of the run columns of the given table and returns the result
+	//The processes are reported in arrival order
+	//The Gantt chart is recorded into the given list, or not at all if it is null
+	static ScheduleResult fcfsResult(ProcessTable table, Timeline gantt) {
+		ProcessTable run = new ProcessTable(table); //Share the read-only columns but keep this run's state separate
+		int[] finished = new int[run.size];
+		RunMetrics metrics = startMetrics(1);
+		RunStatistics statistics = new RunStatistics(1);
+		fcfsSchedule(run, gantt, finished, statistics, metrics);
+		return finishMetrics(new ScheduleResult("FCFS Scheduling", run, gantt, finished, false, statistics), metrics);
+	}
+
+	//This method simulates First-Come, First-Served scheduling over a process table
+	static void fcfsScheduling(ProcessTable table) {
+		fcfsResult(table).print();
+	}
+
+
+
+	//This method runs a non-preemptive scheduler over a process table
+	//If byPriority is true the ready process with the highest priority runs next, otherwise the one with the shortest burst;
+	//ties go to the process that arrived first. Processes are visited in arrival order and moved into a ready heap under
+	//their arrival rank as the clock passes their arrival time, and when nothing is ready the clock jumps straight to the
+	//next arrival
+	//The indices of the processes are stored in finished in the order they complete and each one is added to statistics
+	//as it does, and the Gantt chart is only recorded if gantt is not null
+	static void nonPreemptiveSchedule(ProcessTable t, boolean byPriority, Timeline gantt, int[] finished, RunStatistics statistics,
+									  RunMetrics metrics) {
+		int[] order = t.arrivalOrder;
+		ReadyHeap ready = new ReadyHeap(t.size);
+		int next = 0; //Initialize the arrival cursor to the first process in arrival order
+		int done = 0; //Initialize the number of finished processes
+		int time = 0; //Initialize simulation time to 0
+		//Continue scheduling until all processes are finished
+		while (done < t.size) {
+			//Move every process that has arrived by the current time into the ready heap
+			//The priority is complemented so that the min-heap returns the largest priority first
+			while (next < order.length && t.arrival[order[next]] <= time) {
+				int i = order[next];
+				ready.push(ReadyHeap.key(byPriority ? ~t.priority[i] : t.burst[i], next++));
+			}
+			//If no process is ready, add an idle segment and jump the time straight to the next arrival
+			if (ready.isEmpty()) {
+				int nextArrival = t.arrival[order[next]];
+				if (gantt != null)
+					gantt.append(Timeline.IDLE, time, nextArrival);
+				time = nextArrival;
+				continue;
+			}
+			//Take the best process from the ready heap
+			int current = order[ReadyHeap.index(ready.pop())];
+			if (metrics != null)
+				metrics.dispatch(0, current, ready.size);
+			int start = time; //Record the start time for the process
+			//If the CPU initialization time is not set, set it now
+			if (t.cpuInit[current] == -1) {
+				t.cpuInit[current] = start;
+			}
+			t.waiting[current] = time - t.arrival[current]; //Calculate the waiting time
+			time += t.burst[current]; //Increment time by the burst time
+			t.completion[current] = time; //Set the completion time
+			statistics.complete(t.arrival[current], t.burst[current], t.cpuInit[current], t.waiting[current], time); //Add the process to the statistics
+			//Add a Gantt segment for the process
+			if (gantt != null)
+				gantt.append(t.pid[current], start, time);
+			//Add the process to the finished order
+			finished[done++] = current;
+		}
+	}
+
+	//This method simulates Shortest Job First scheduling (non-preemptive)
+	static void sjfScheduling(List<Process> processes) {
+		sjfScheduling(new ProcessTable(processes));
+	}
+
+	//This method runs sjfResult with the Gantt chart recorded into a new list
+	static ScheduleResult sjfResult(ProcessTable table) {
+		return sjfResult(table, new Timeline());
+	}
+
+	//This method runs Shortest Job First scheduling (non-preemptive) on its own copy of the run columns of the given table and returns the result
+	//The processes are reported in the order they finished
+	//The Gantt chart is recorded into the given list, or not at all if it is null
+	static ScheduleResult sjfResult(ProcessTable table, Timeline gantt) {
+		ProcessTable run = new ProcessTable(table); //Share the read-only columns but keep this run's state separate
+		int[] finished = new int[run.size];
+		RunMetrics metrics = startMetrics(1);
+		RunStatistics statistics = new RunStatistics(1);
+		nonPreemptiveSchedule(run, false, gantt, finished, statistics, metrics);
+		return finishMetrics(new ScheduleResult("SJF Scheduling (Non-Preemptive)", run, gantt, finished, false, statistics), metrics);
+	}
+
+	//This method simulates Shortest Job First scheduling (non-preemptive) over a process table
+	static void sjfScheduling(ProcessTable table) {
+		sjfResult(table).print();
+	}
+
+
+
+
+
+
+	//This method runs Round Robin scheduling with the given time quantum over a process table
+	//Ready processes wait in a ring buffer and new arrivals are taken from an arrival cursor, so each quantum costs O(1)
+	//The indices of the processes are stored in finished in the order they complete and each one is added to statistics
+	//as it does, and the Gantt chart is only recorded if gantt is not null. The number of context switches (dispatches of a different process from the one that
+	//last ran) is returned
+	static long roundRobinSchedule(ProcessTable t, int timeQuantum, Timeline gantt, int[] finished, RunStatistics statistics,
+								   RunMetrics metrics) {
+		int[] order = t.arrivalOrder;
+		int next = 0; //Processes at or after the arrival cursor have not yet been added to the queue
+		RunQueue queue = new RunQueue(16); //Create a scheduling queue of process indices
+		int done = 0; //Initialize the number of finished processes
+		long contextSwitches = 0; //Initialize the number of context switches
+		int last = -1; //Initialize the index of the last process that ran to -1 (none)
+		int time = 0; //Initialize simulation time to 0
+		//Continue scheduling until the queue is empty and every process has been added
+		while (!queue.isEmpty() || next < order.length) {
+			//If the queue is empty then the CPU is idle
+			if (queue.isEmpty()) {
+				int nextArrival = t.arrival[order[next]];
+				//If the current time is less than the arrival time of the next process, add an idle segment and update time
+				if (time < nextArrival) {
+					if (gantt != null)
+						gantt.append(Timeline.IDLE, time, nextArrival);
+					time = nextArrival;
+				}
+				//Add all processes that have arrived by the current time to the queue
+				while (next < order.length && t.arrival[order[next]] <= time) {
+					queue.add(order[next++]);
+				}
+			}
+			//Remove the first process from the queue for execution
+			int current = queue.poll();
+			if (metrics != null)
+				metrics.dispatch(0, current, queue.size());
+			//Count a context switch if a different process ran last
+			if (last != -1 && last != current) {
+				contextSwitches++;
+			}
+			last = current;
+			int start = time; //Record the start time for the process
+			//If the CPU initialization time is not set, set it now
+			if (t.cpuInit[current] == -1) {
+				t.cpuInit[current] = start;
+			}
+			//Determine the execution time as the minimum of the time quantum and the remaining burst time
+			int execTime = Math.min(timeQuantum, t.remaining[current]);
+			time += execTime; //Increment time by the execution time
+			t.remaining[current] -= execTime; //Decrease the remaining burst time
+			//Add a Gantt segment for the execution of the process
+			if (gantt != null)
+				gantt.append(t.pid[current], start, time);
+			//Add any processes that have arrived during execution to the queue
+			while (next < order.length && t.arrival[order[next]] <= time) {
+				queue.add(order[next++]);
+			}
+			//If the process is not yet finished, re-add it to the queue; otherwise, calculate its metrics and add it to the finished order
+			if (t.remaining[current] > 0) {
+				queue.add(current);
+			} else {
+				t.completion[current] = time;
+				t.waiting[current] = t.turnaround(current) - t.burst[current];
+				statistics.complete(t.arrival[current], t.burst[current], t.cpuInit[current], t.waiting[current], time);
+				finished[done++] = current;
+			}
+		}
+		return contextSwitches;
+	}
+
+	//This method runs Round Robin scheduling for every time quantum from minQuantum to maxQuantum and prints a table of
+	//the average waiting time, average turnaround time and number of context switches for each quantum
+	//The runs execute in parallel on the common fork-join pool; each run shares the read-only columns of the table and only
+	//allocates its own run columns, and no Gantt chart is recorded
+	static void roundRobinQuantumSweep(ProcessTable table, int minQuantum, int maxQuantum) {
+		//Print the header for the sweep
+		System.out.println("\n--- Round Robin Time Quantum Sweep (Time Quantum = " + minQuantum + ".." + maxQuantum + ") ---");
+		//If the range is invalid, inform the user and return
+		if (minQuantum <= 0 || maxQuantum < minQuantum) {
+			System.out.println("Invalid time quantum range: the quanta must be positive and the range must not be empty.");
+			return;
+		}
+		//If there are no processes to schedule, inform the user and return
+		if (table.size == 0) {
+			System.out.println("No processes to schedule.");
+			return;
+		}
+		int runs = maxQuantum - minQuantum + 1;
+		//Create the result columns, one entry per time quantum
+		double[] avgWait = new double[runs], avgTurnaround = new double[runs];
+		long[] contextSwitches = new long[runs];
+		//Run every time quantum in parallel
+		IntStream.range(0, runs).parallel().forEach(r -> {
+			ProcessTable run = new ProcessTable(table); //Share the read-only columns but keep this run's state separate
+			int[] finished = new int[run.size];
+			RunStatistics statistics = new RunStatistics(1);
+			contextSwitches[r] = roundRobinSchedule(run, minQuantum + r, null, finished, statistics, null);
+			avgWait[r] = statistics.waiting.mean();
+			avgTurnaround[r] = statistics.turnaround.mean();
+		});
+		//Print one row per time quantum
+		System.out.printf("%-12s | %-20s | %-23s | %s\n", "Time Quantum", "Average Waiting Time", "Average Turnaround Time", "Context Switches");
+		for (int r = 0; r < runs; r++) {
+			System.out.printf("%-12d | %-20.2f | %-23.2f | %d\n", minQuantum + r, avgWait[r], avgTurnaround[r], contextSwitches[r]);
+		}
+	}
+
+	//This method simulates Round Robin scheduling with a specified time quantum
+	static void roundRobinScheduling(List<Process> processes, int timeQuantum) {
+		roundRobinScheduling(new ProcessTable(processes), timeQuantum);
+	}
+
+	//This method runs roundRobinResult with the Gantt chart recorded into a new list
+	static ScheduleResult roundRobinResult(ProcessTable table, int timeQuantum) {
+		return roundRobinResult(table, timeQuantum, new Timeline());
+	}
+
+	//This method runs Round Robin scheduling on its own copy of the run columns of the given table and returns the result
+	//The processes are reported sorted by process ID
+	//The Gantt chart is recorded into the given list, or not at all if it is null
+	static ScheduleResult roundRobinResult(ProcessTable table, int timeQuantum, Timeline gantt) {
+		ProcessTable run = new ProcessTable(table); //Share the read-only columns but keep this run's state separate
+		int[] finished = new int[run.size];
+		RunMetrics metrics = startMetrics(1);
+		RunStatistics statistics = new RunStatistics(1);
+		roundRobinSchedule(run, timeQuantum, gantt, finished, statistics, metrics);
+		sortByPid(run, finished);
+		return finishMetrics(new ScheduleResult("Round Robin Scheduling (Time Quantum = " + timeQuantum + ")", run, gantt, finished, false, statistics), metrics);
+	}
+
+	//This method simulates Round Robin scheduling with a specified time quantum over a process table
+	static void roundRobinScheduling(ProcessTable table, int timeQuantum) {
+		roundRobinResult(table, timeQuantum).print();
+	}
+
+
+
+
+
+
+	//This method simulates Priority scheduling (non-preemptive) with a reversed priority order (higher value indicates higher priority)
+	static void priorityScheduling(List<Process> processes) {
+		priorityScheduling(new ProcessTable(processes));
+	}
+
+	//This method runs priorityResult with the Gantt chart recorded into a new list
+	static ScheduleResult priorityResult(ProcessTable table) {
+		return priorityResult(table, new Timeline());
+	}
+
+	//This method runs Priority scheduling (non-preemptive) on its own copy of the run columns of the given table and returns the result
+	//The processes are reported in the order they finished
+	//The Gantt chart is recorded into the given list, or not at all if it is null
+	static ScheduleResult priorityResult(ProcessTable table, Timeline gantt) {
+		ProcessTable run = new ProcessTable(table); //Share the read-only columns but keep this run's state separate
+		int[] finished = new int[run.size];
+		RunMetrics metrics = startMetrics(1);
+		RunStatistics statistics = new RunStatistics(1);
+		nonPreemptiveSchedule(run, true, gantt, finished, statistics, metrics);
+		return finishMetrics(new ScheduleResult("Priority Scheduling (Non-Preemptive)", run, gantt, finished, true, statistics), metrics);
+	}
+
+	//This method simulates Priority scheduling (non-preemptive) over a process table
+	static void priorityScheduling(ProcessTable table) {
+		priorityResult(table).print();
+	}
+
+	//This method runs a preemptive scheduler over a process table
+	//If byPriority is true the ready process with the highest priority runs, otherwise the one with the shortest remaining time runs
+	//Decisions are only made when a process arrives or completes, and the running process is only preempted by a strictly better one
+	//Ready processes are kept in the heap under their arrival rank, so ties go to the process that arrived first
+	//The indices of the processes are stored in finished in the order they complete and each one is added to statistics
+	//as it does, and the Gantt chart is only recorded if gantt is not null
+	static void preemptiveSchedule(ProcessTable t, boolean byPriority, Timeline gantt, int[] finished, RunStatistics statistics,
+								   RunMetrics metrics) {
+		int[] order = t.arrivalOrder;
+		ReadyHeap ready = new ReadyHeap(t.size);
+		int next = 0; //Initialize the arrival cursor to the first process in arrival order
+		int done = 0; //Initialize the number of finished processes
+		int time = 0; //Initialize simulation time to 0
+		int current = -1; //Initialize the running process index to -1 (none)
+		int rank = -1; //Initialize the arrival rank of the running process
+		//Continue scheduling until all processes are finished
+		while (done < t.size) {
+			//Move every process that has arrived by the current time into the ready heap
+			while (next < order.length && t.arrival[order[next]] <= time) {
+				int i = order[next];
+				ready.push(ReadyHeap.key(byPriority ? ~t.priority[i] : t.remaining[i], next++));
+			}
+			if (current == -1) {
+				//If no process is running or ready, add an idle segment and jump the time to the next arrival
+				if (ready.isEmpty()) {
+					int nextArrival = t.arrival[order[next]];
+					if (gantt != null)
+						gantt.append(Timeline.IDLE, time, nextArrival);
+					time = nextArrival;
+					continue;
+				}
+				//Otherwise dispatch the best ready process
+				rank = ReadyHeap.index(ready.pop());
+				current = order[rank];
+				if (metrics != null)
+					metrics.dispatch(0, current, ready.size);
+			} else if (!ready.isEmpty()) {
+				//If the best ready process is strictly better than the running process, preempt the running process
+				long runningKey = ReadyHeap.key(byPriority ? ~t.priority[current] : t.remaining[current], rank);
+				if ((ready.peek() >> 32) < (runningKey >> 32)) {
+					ready.push(runningKey);
+					rank = ReadyHeap.index(ready.pop());
+					current = order[rank];
+					if (metrics != null)
+						metrics.dispatch(0, current, ready.size);
+				}
+			}
+			//If the CPU initialization time is not set, set it now
+			if (t.cpuInit[current] == -1) {
+				t.cpuInit[current] = time;
+			}
+			//Run the process until it completes or the next process arrives, whichever comes first
+			int until = time + t.remaining[current];
+			if (next < order.length && t.arrival[order[next]] < until) {
+				until = t.arrival[order[next]];
+			}
+			if (gantt != null)
+				gantt.append(t.pid[current], time, until);
+			t.remaining[current] -= until - time; //Decrease the remaining burst time
+			time = until; //Advance the time to the event
+			//If the process has finished, calculate its metrics and add it to the finished order
+			if (t.remaining[current] == 0) {
+				t.completion[current] = time;
+				t.waiting[current] = t.turnaround(current) - t.burst[current];
+				statistics.complete(t.arrival[current], t.burst[current], t.cpuInit[current], t.waiting[current], time);
+				finished[done++] = current;
+				current = -1;
+			}
+		}
+	}
+
+
+
+	//This method simulates Shortest Remaining Time First scheduling (preemptive Shortest Job First)
+	static void srtfScheduling(List<Process> processes) {
+		srtfScheduling(new ProcessTable(processes));
+	}
+
+	//This method runs srtfResult with the Gantt chart recorded into a new list
+	static ScheduleResult srtfResult(ProcessTable table) {
+		return srtfResult(table, new Timeline());
+	}
+
+	//This method runs Shortest Remaining Time First scheduling on its own copy of the run columns of the given table and returns the result
+	//The processes are reported sorted by process ID
+	//The Gantt chart is recorded into the given list, or not at all if it is null
+	static ScheduleResult srtfResult(ProcessTable table, Timeline gantt) {
+		ProcessTable run = new ProcessTable(table); //Share the read-only columns but keep this run's state separate
+		int[] finished = new int[run.size];
+		RunMetrics metrics = startMetrics(1);
+		RunStatistics statistics = new RunStatistics(1);
+		preemptiveSchedule(run, false, gantt, finished, statistics, metrics);
+		sortByPid(run, finished);
+		return finishMetrics(new ScheduleResult("SRTF Scheduling (Preemptive)", run, gantt, finished, false, statistics), metrics);
+	}
+
+	//This method simulates Shortest Remaining Time First scheduling over a process table
+	static void srtfScheduling(ProcessTable table) {
+		srtfResult(table).print();
+	}
+
+
+
+	//This method simulates Priority scheduling (preemptive) with a reversed priority order (higher value indicates higher priority)
+	static void preemptivePriorityScheduling(List<Process> processes) {
+		preemptivePriorityScheduling(new ProcessTable(processes));
+	}
+
+	//This method runs preemptivePriorityResult with the Gantt chart recorded into a new list
+	static ScheduleResult preemptivePriorityResult(ProcessTable table) {
+		return preemptivePriorityResult(table, new Timeline());
+	}
+
+	//This method runs Priority scheduling (preemptive) on its own copy of the run columns of the given table and returns the result
+	//The processes are reported sorted by process ID
+	//The Gantt chart is recorded into the given list, or not at all if it is null
+	static ScheduleResult preemptivePriorityResult(ProcessTable table, Timeline gantt) {
+		ProcessTable run = new ProcessTable(table); //Share the read-only columns but keep this run's state separate
+		int[] finished = new int[run.size];
+		RunMetrics metrics = startMetrics(1);
+		RunStatistics statistics = new RunStatistics(1);
+		preemptiveSchedule(run, true, gantt, finished, statistics, metrics);
+		sortByPid(run, finished);
+		return finishMetrics(new ScheduleResult("Priority Scheduling (Preemptive)", run, gantt, finished, true, statistics), metrics);
+	}
+
+	//This method simulates Priority scheduling (preemptive) over a process table
+	static void preemptivePriorityScheduling(ProcessTable table) {
+		preemptivePriorityResult(table).print();
+	}
+
+
+
+	//This method runs Multi-Level Feedback Queue scheduling over a process table
+	//Each level has its own time quantum; new processes enter the top level (level 0) and a process that uses up its
+	//whole quantum is demoted one level. Every boostInterval time units all waiting processes are boosted back to the top
+	//level so that long jobs cannot starve (a boostInterval of 0 or less disables the boost)
+	//The quanta must be positive and there must be between 1 and 64 levels. The number of dispatches from each level is
+	//added to dispatches, the indices of the processes are stored in finished in the order they complete and added to
+	//statistics as they do, and the Gantt chart is only recorded if gantt is not null
+	static void mlfqSchedule(ProcessTable t, int[] quanta, int boostInterval, Timeline gantt, int[] finished, long[] dispatches,
+							 RunStatistics statistics, RunMetrics metrics) {
+		int levels = quanta.length;
+		//Create one run queue per level
+		RunQueue[] queues = new RunQueue[levels];
+		for (int i = 0; i < levels; i++) {
+			queues[i] = new RunQueue(16);
+		}
+		long nonEmpty = 0; //Bit i is set when the queue for level i is not empty
+		int[] order = t.arrivalOrder;
+		int next = 0; //Initialize the arrival cursor to the first process in arrival order
+		int done = 0; //Initialize the number of finished processes
+		int time = 0; //Initialize simulation time to 0
+		long nextBoost = boostInterval > 0 ? boostInterval : Long.MAX_VALUE; //Initialize the time of the next boost
+		//Continue scheduling until all processes are finished
+		while (done < t.size) {
+			//If every queue is empty, add an idle segment and jump the time to the next arrival
+			if (nonEmpty == 0 && t.arrival[order[next]] > time) {
+				if (gantt != null)
+					gantt.append(Timeline.IDLE, time, t.arrival[order[next]]);
+				time = t.arrival[order[next]];
+			}
+			//Add all processes that have arrived by the current time to the top level
+			while (next < order.length && t.arrival[order[next]] <= time) {
+				queues[0].add(order[next++]);
+				nonEmpty |= 1L;
+			}
+			//Pick the first process of the highest non-empty level with a single bit scan
+			int lvl = Long.numberOfTrailingZeros(nonEmpty);
+			int current = queues[lvl].poll();
+			if (queues[lvl].isEmpty()) {
+				nonEmpty &= ~(1L << lvl);
+			}
+			dispatches[lvl]++;
+			if (metrics != null) {
+				int queued = 0;
+				for (RunQueue q : queues) {
+					queued += q.size();
+				}
+				metrics.dispatch(0, current, queued);
+			}
+			//If the CPU initialization time is not set, set it now
+			if (t.cpuInit[current] == -1) {
+				t.cpuInit[current] = time;
+			}
+			//Run the process for the quantum of its level or until it finishes
+			int execTime = Math.min(quanta[lvl], t.remaining[current]);
+			if (gantt != null)
+				gantt.append(t.pid[current], time, time + execTime);
+			time += execTime; //Increment time by the execution time
+			t.remaining[current] -= execTime; //Decrease the remaining burst time
+			//Add any processes that have arrived during execution to the top level
+			while (next < order.length && t.arrival[order[next]] <= time) {
+				queues[0].add(order[next++]);
+				nonEmpty |= 1L;
+			}
+			//If the process is finished, calculate its metrics; otherwise it used its whole quantum and is demoted one level
+			if (t.remaining[current] == 0) {
+				t.completion[current] = time;
+				t.waiting[current] = t.turnaround(current) - t.burst[current];
+				statistics.complete(t.arrival[current], t.burst[current], t.cpuInit[current], t.waiting[current], time);
+				finished[done++] = current;
+			} else {
+				int demoted = Math.min(lvl + 1, levels - 1);
+				queues[demoted].add(current);
+				nonEmpty |= 1L << demoted;
+			}
+			//If the boost interval has passed, move every waiting process back to the top level in level order
+			if (time >= nextBoost) {
+				for (int i = 1; i < levels; i++) {
+					while (!queues[i].isEmpty()) {
+						queues[0].add(queues[i].poll());
+					}
+				}
+				if (nonEmpty != 0) {
+					nonEmpty = 1L;
+				}
+				//Schedule the next boost after the current time
+				nextBoost += ((time - nextBoost) / boostInterval + 1) * boostInterval;
+			}
+		}
+	}
+
+	//This method simulates Multi-Level Feedback Queue scheduling (see mlfqSchedule)
+	static void mlfqScheduling(List<Process> processes, int[] quanta, int boostInterval) {
+		mlfqScheduling(new ProcessTable(processes), quanta, boostInterval);
+	}
+
+	//This method runs mlfqResult with the Gantt chart recorded into a new list
+	static ScheduleResult mlfqResult(ProcessTable table, int[] quanta, int boostInterval) {
+		return mlfqResult(table, quanta, boostInterval, new Timeline());
+	}
+
+	//This method runs Multi-Level Feedback Queue scheduling on its own copy of the run columns of the given table and
+	//returns the result (see mlfqSchedule); the processes are reported sorted by process ID
+	//The Gantt chart is recorded into the given list, or not at all if it is null
+	static ScheduleResult mlfqResult(ProcessTable table, int[] quanta, int boostInterval, Timeline gantt) {
+		String title = "MLFQ Scheduling (Levels = " + quanta.length + ", Quanta = " + Arrays.toString(quanta)
+				+ ", Boost Interval = " + boostInterval + ")";
+		//The non-empty levels are tracked in a single long bitmap, so at most 64 levels are supported
+		if (quanta.length == 0 || quanta.length > 64) {
+			return new ScheduleResult(title, "Invalid MLFQ configuration: the number of levels must be between 1 and 64.");
+		}
+		for (int q : quanta) {
+			if (q <= 0) {
+				return new ScheduleResult(title, "Invalid MLFQ configuration: every time quantum must be positive.");
+			}
+		}
+		ProcessTable run = new ProcessTable(table); //Share the read-only columns but keep this run's state separate
+		int[] finished = new int[run.size];
+		long[] dispatches = new long[quanta.length];
+		RunMetrics metrics = startMetrics(1);
+		RunStatistics statistics = new RunStatistics(1);
+		mlfqSchedule(run, quanta, boostInterval, gantt, finished, dispatches, statistics, metrics);
+		sortByPid(run, finished);
+		ScheduleResult result = finishMetrics(new ScheduleResult(title, run, gantt, finished, false, statistics), metrics);
+		//Report the number of dispatches made from each level
+		for (int i = 0; i < quanta.length; i++) {
+			result.notes.add(String.format("Level %d (Time Quantum = %d): %d dispatches", i, quanta[i], dispatches[i]));
+		}
+		return result;
+	}
+
+	//This method simulates Multi-Level Feedback Queue scheduling over a process table (see mlfqSchedule)
+	static void mlfqScheduling(ProcessTable table, int[] quanta, int boostInterval) {
+		mlfqResult(table, quanta, boostInterval).print();
+	}
+
+
+
+	//This method runs Round Robin scheduling on a symmetric multiprocessor with the given number of CPUs over a process table
+	//Each CPU has its own run queue. An arriving process is placed on the least loaded CPU (queued plus running processes,
+	//ties go to the lowest CPU number), and a CPU whose own queue is empty steals the first process from the longest queue.
+	//A process that is dispatched on a different CPU from the one it last ran on counts as a migration on the new CPU
+	//The busy time, dispatches and migrations of each CPU are added to the given arrays, the indices of the processes are
+	//stored in finished in the order they complete and added to statistics as they do, and one Gantt lane per CPU is
+	//only recorded if lanes is not null
+	//The makespan (the time the last process finishes) is returned
+	static int smpSchedule(ProcessTable t, int numCpus, int timeQuantum, Timeline[] lanes, int[] finished,
+						   long[] busy, long[] dispatches, long[] migrations, RunStatistics statistics, RunMetrics metrics) {
+		//Create the per-CPU run queues and state
+		RunQueue[] queues = new RunQueue[numCpus];
+		int[] running = new int[numCpus]; //The index of the process running on each CPU, or -1 if the CPU is idle
+		boolean[] parked = new boolean[numCpus]; //True if the CPU is idle and waiting for new work
+		for (int c = 0; c < numCpus; c++) {
+			queues[c] = new RunQueue(16);
+			running[c] = -1;
+			parked[c] = true;
+		}
+		int parkedCount = numCpus; //Initialize the number of parked CPUs (every CPU starts out parked)
+		int queued = 0; //Initialize the number of processes waiting in any run queue
+		int[] lastCpu = new int[t.size]; //The CPU each process last ran on, or -1 if it has not run yet
+		Arrays.fill(lastCpu, -1);
+		//Create the event heap; each key packs the time a CPU finishes its current slice with the CPU number
+		ReadyHeap events = new ReadyHeap(numCpus);
+		int[] order = t.arrivalOrder;
+		int next = 0; //Initialize the arrival cursor to the first process in arrival order
+		int done = 0; //Initialize the number of finished processes
+		int time = 0; //Initialize simulation time to 0
+		//Continue until every process has finished
+		while (done < t.size) {
+			boolean arrivalFirst = next < order.length
+					&& (events.isEmpty() || t.arrival[order[next]] <= (int) (events.peek() >> 32));
+			if (arrivalFirst) {
+				//Place every process arriving at this time on the least loaded CPU
+				time = Math.max(time, t.arrival[order[next]]);
+				while (next < order.length && t.arrival[order[next]] <= time) {
+					int target = 0;
+					int targetLoad = Integer.MAX_VALUE;
+					for (int c = 0; c < numCpus; c++) {
+						int load = queues[c].size() + (running[c] == -1 ? 0 : 1);
+						if (load < targetLoad) {
+							target = c;
+							targetLoad = load;
+						}
+					}
+					queues[target].add(order[next++]);
+					queued++;
+				}
+			} else {
+				//Take the CPU that finishes its slice first
+				long event = events.pop();
+				time = (int) (event >> 32);
+				int cpu = ReadyHeap.index(event);
+				int p = running[cpu];
+				//If the process has finished, calculate its metrics; otherwise put it back on this CPU's queue
+				if (t.remaining[p] == 0) {
+					t.completion[p] = time;
+					t.waiting[p] = t.turnaround(p) - t.burst[p];
+					statistics.complete(t.arrival[p], t.burst[p], t.cpuInit[p], t.waiting[p], time);
+					finished[done++] = p;
+				} else {
+					queues[cpu].add(p);
+					queued++;
+				}
+				running[cpu] = -1;
+				parked[cpu] = true;
+				parkedCount++;
+			}
+			//Dispatch a process on every parked CPU while there is queued work
+			for (int cpu = 0; cpu < numCpus && parkedCount > 0 && queued > 0; cpu++) {
+				if (!parked[cpu])
+					continue;
+				//Take work from this CPU's own queue, or steal it from the CPU with the longest queue
+				RunQueue source = queues[cpu];
+				if (source.isEmpty()) {
+					for (RunQueue q : queues) {
+						if (q.size() > source.size())
+							source = q;
+					}
+				}
+				int p = source.poll();
+				queued--;
+				if (metrics != null)
+					metrics.dispatch(cpu, p, queued);
+				//Count a migration if the process last ran on a different CPU
+				if (lastCpu[p] != -1 && lastCpu[p] != cpu) {
+					migrations[cpu]++;
+				}
+				lastCpu[p] = cpu;
+				//If the CPU initialization time is not set, set it now
+				if (t.cpuInit[p] == -1) {
+					t.cpuInit[p] = time;
+				}
+				//Run the process for one time quantum or until it finishes
+				int execTime = Math.min(timeQuantum, t.remaining[p]);
+				if (lanes != null) {
+					//If this CPU has been idle since its last segment, add an idle segment to its lane
+					Timeline lane = lanes[cpu];
+					if (lane.end() < time) {
+						lane.append(Timeline.IDLE, lane.end(), time);
+					}
+					lane.append(t.pid[p], time, time + execTime);
+				}
+				t.remaining[p] -= execTime;
+				busy[cpu] += execTime;
+				dispatches[cpu]++;
+				running[cpu] = p;
+				parked[cpu] = false;
+				parkedCount--;
+				events.push(ReadyHeap.key(time + execTime, cpu));
+			}
+		}
+		return time;
+	}
+
+	//This method simulates Round Robin scheduling on a symmetric multiprocessor with the given number of CPUs (see smpSchedule)
+	static void smpScheduling(List<Process> processes, int numCpus, int timeQuantum) {
+		smpScheduling(new ProcessTable(processes), numCpus, timeQuantum);
+	}
+
+	//This method runs smpResult with one Gantt chart lane per CPU recorded into new lists
+	static ScheduleResult smpResult(ProcessTable table, int numCpus, int timeQuantum) {
+		Timeline[] lanes = new Timeline[Math.max(numCpus, 0)];
+		for (int c = 0; c < lanes.length; c++) {
+			lanes[c] = new Timeline();
+		}
+		return smpResult(table, numCpus, timeQuantum, lanes);
+	}
+
+	//This method runs SMP Round Robin scheduling on its own copy of the run columns of the given table and returns the
+	//result (see smpSchedule); the processes are reported sorted by process ID
+	//One Gantt chart lane per CPU is recorded into the given lanes, or none at all if lanes is null
+	static ScheduleResult smpResult(ProcessTable table, int numCpus, int timeQuantum, Timeline[] lanes) {
+		String title = "SMP Round Robin Scheduling (CPUs = " + numCpus + ", Time Quantum = " + timeQuantum + ")";
+		//If the configuration is invalid, return an error
+		if (numCpus <= 0 || timeQuantum <= 0) {
+			return new ScheduleResult(title, "Invalid SMP configuration: the number of CPUs and the time quantum must be positive.");
+		}
+		ProcessTable run = new ProcessTable(table); //Share the read-only columns but keep this run's state separate
+		int[] finished = new int[run.size];
+		long[] busy = new long[numCpus], dispatches = new long[numCpus], migrations = new long[numCpus];
+		RunMetrics metrics = startMetrics(numCpus);
+		RunStatistics statistics = new RunStatistics(numCpus);
+		int time = smpSchedule(run, numCpus, timeQuantum, lanes, finished, busy, dispatches, migrations, statistics, metrics);
+		sortByPid(run, finished);
+		//Pad every Gantt chart lane with idle time up to the makespan
+		for (int c = 0; lanes != null && c < numCpus; c++) {
+			if (lanes[c].end() < time) {
+				lanes[c].append(Timeline.IDLE, lanes[c].end(), time);
+			}
+		}
+		ScheduleResult result = new ScheduleResult(title, run, null, finished, false, statistics);
+		result.lanes = lanes;
+		finishMetrics(result, metrics);
+		//Report the makespan, the throughput and the utilization, dispatches and migrations of each CPU
+		long totalMigrations = 0;
+		result.notes.add(String.format("Makespan: %d | Throughput: %.4f processes per time unit", time, time == 0 ? 0.0 : (double) run.size / time));
+		for (int cpu = 0; cpu < numCpus; cpu++) {
+			result.notes.add(String.format("CPU %-3d | Utilization: %6.2f%% | Dispatches: %d | Migrations: %d",
+										   cpu, time == 0 ? 0.0 : 100.0 * busy[cpu] / time, dispatches[cpu], migrations[cpu]));
+			totalMigrations += migrations[cpu];
+		}
+		result.notes.add("Total Migrations: " + totalMigrations);
+		return result;
+	}
+
+	//This method simulates Round Robin scheduling on a symmetric multiprocessor over a process table (see smpSchedule)
+	static void smpScheduling(ProcessTable table, int numCpus, int timeQuantum) {
+		smpResult(table, numCpus, timeQuantum).print();
+	}
+
+
+
+
+	//This method simulates First-Come, First-Served scheduling while streaming processes from a trace file
+	//Processes are scheduled as they are read, so memory use does not grow with the length of the trace;
+	//the Gantt chart is not kept and each process is printed as soon as it completes
+	//The trace must be sorted by arrival time
+	static void fcfsSchedulingStream(String filename) {
+		fcfsSchedulingStream(filename, null);
+	}
+
+	//This method runs streaming FCFS scheduling and also writes each process to the given exporter, if not null, as it completes
+	static void fcfsSchedulingStream(String filename, RecordExporter exporter) {
+		//Print the header for streaming FCFS scheduling
+		System.out.println("\n--- FCFS Scheduling (Streaming) ---");
+		RunStatistics statistics = new RunStatistics(1); //Initialize the statistics of the scheduled processes
+		int time = 0; //Initialize simulation time to 0
+		//Open the trace file and schedule each process as it is read
+		try (TraceReader reader = new TraceReader(filename)) {
+			Process p;
+			while ((p = reader.next()) != null) {
+				//If the trace is not sorted by arrival time, inform the user and stop
+				if (!reader.sorted) {
+					report.print("Error: File " + filename + " is not sorted by arrival time (line " + reader.lineNumber + ").").println();
+					return;
+				}
+				//If the current time is less than the process arrival time, the CPU is idle until it arrives
+				if (time < p.arrival) {
+					time = p.arrival;
+				}
+				p.cpuInit = time; //Set the CPU initialization time
+				p.waiting = time - p.arrival; //Calculate the waiting time
+				time += p.burst; //Increment time by the burst time of the process
+				p.completion = time; //Set the completion time
+				p.turnaround = p.completion - p.arrival; //Calculate the turnaround time
+				if (!quiet) {
+					printProcessLine(p.pid, p.cpuInit, p.waiting, p.turnaround);
+					report.println();
+				}
+				if (exporter != null)
+					exporter.process("fcfs", p.pid, p.cpuInit, p.waiting, p.turnaround, p.completion, p.priority);
+				statistics.complete(p.arrival, p.burst, p.cpuInit, p.waiting, p.completion);
+			}
+		}
+		//Catch any I/O exceptions that occur while reading the file
+		catch (IOException e) {
+			report.print("Error: File " + filename + " not found.").println();
+			return;
+		}
+		//Hand the buffered process lines to System.out before printing the averages
+		finally {
+			report.flush();
+		}
+		//If there were no processes to schedule, inform the user
+		if (statistics.count() == 0) {
+			System.out.println("No processes to schedule.");
+			return;
+		}
+		printAverages(statistics);
+	}
+
+
+
+	//This method simulates Round Robin scheduling while streaming processes from a trace file
+	//Only processes that have arrived and not yet finished are kept in memory; their slots are reused once they finish,
+	//so memory use is bounded by the number of live processes rather than the length of the trace
+	//The Gantt chart is not kept and each process is printed as soon as it completes
+	//The trace must be sorted by arrival time
+	static void roundRobinSchedulingStream(String filename, int timeQuantum) {
+		roundRobinSchedulingStream(filename, timeQuantum, null);
+	}
+
+	//This method runs streaming Round Robin scheduling and also writes each process to the given exporter, if not null,
+	//as it completes
+	static void roundRobinSchedulingStream(String filename, int timeQuantum, RecordExporter exporter) {
+		//Print the header for streaming Round Robin scheduling
+		System.out.println("\n--- Round Robin Scheduling (Streaming, Time Quantum = " + timeQuantum + ") ---");
+		RunStatistics statistics = new RunStatistics(1); //Initialize the statistics of the finished processes
+		//Create the slot table for live processes and the run queue of slot numbers
+		SlotTable live = new SlotTable();
+		RunQueue queue = new RunQueue(16);
+		int time = 0; //Initialize simulation time to 0
+		//Open the trace file and read the first process
+		try (TraceReader reader = new TraceReader(filename)) {
+			Process pending = reader.next(); //The next process read from the file that has not been added to the queue
+			//Continue scheduling until the queue is empty and the whole file has been read
+			while (!queue.isEmpty() || pending != null) {
+				//If the queue is empty then the CPU is idle until the next process arrives
+				if (queue.isEmpty() && time < pending.arrival) {
+					time = pending.arrival;
+				}
+				//Add all processes that have arrived by the current time to the queue
+				while (pending != null && pending.arrival <= time) {
+					queue.add(live.add(pending));
+					pending = reader.next();
+				}
+				//Remove the first process from the queue for execution
+				int slot = queue.poll();
+				Process current = live.get(slot);
+				//If the CPU initialization time is not set, set it now
+				if (current.cpuInit == -1) {
+					current.cpuInit = time;
+				}
+				//Run the process for one time quantum or until it finishes
+				int execTime = Math.min(timeQuantum, current.remaining);
+				time += execTime;
+				current.remaining -= execTime;
+				//Add any processes that have arrived during execution to the queue before re-queueing the current one
+				while (pending != null && pending.arrival <= time) {
+					queue.add(live.add(pending));
+					pending = reader.next();
+				}
+				//If the trace is not sorted by arrival time, inform the user and stop
+				if (!reader.sorted) {
+					report.print("Error: File " + filename + " is not sorted by arrival time (line " + reader.lineNumber + ").").println();
+					return;
+				}
+				//If the process is not yet finished, re-add it to the queue; otherwise print its metrics and free its slot
+				if (current.remaining > 0) {
+					queue.add(slot);
+				} else {
+					current.completion = time;
+					current.turnaround = current.completion - current.arrival;
+					current.waiting = current.turnaround - current.burst;
+					if (!quiet) {
+						printProcessLine(current.pid, current.cpuInit, current.waiting, current.turnaround);
+						report.println();
+					}
+					if (exporter != null)
+						exporter.process("rr", current.pid, current.cpuInit, current.waiting, current.turnaround, current.completion, current.priority);
+					statistics.complete(current.arrival, current.burst, current.cpuInit, current.waiting, current.completion);
+					live.release(slot);
+				}
+			}
+		}
+		//Catch any I/O exceptions that occur while reading the file
+		catch (IOException e) {
+			report.print("Error: File " + filename + " not found.").println();
+			return;
+		}
+		//Hand the buffered process lines to System.out before printing the averages
+		finally {
+			report.flush();
+		}
+		//If there were no processes to schedule, inform the user
+		if (statistics.count() == 0) {
+			System.out.println("No processes to schedule.");
+			return;
+		}
+		printAverages(statistics);
+	}
+
+	//This enum lists the placement strategies of the memory allocator
+	enum FitStrategy {
+		FIRST_FIT, //The hole with the lowest address that is large enough
+		BEST_FIT, //The smallest hole that is large enough, the lowest address among equal sizes
+		WORST_FIT, //The largest hole, the lowest address among equal sizes
+		NEXT_FIT //Like first fit, but the search continues from where the previous allocation ended and wraps around
+	}
+
+	//This class is an ordered set of long keys, each with an int value, stored as a treap in parallel arrays
+	//Every node also stores the largest value in its subtree, so the first key at or after a given key whose value is at
+	//least a given size is found in O(log n) expected time. Nodes are array indices, removed nodes are reused through a
+	//free list, and node 0 is the empty tree, so no object is allocated per operation
+	static class Treap {
+		//This variable is the index of the empty tree
+		static final int NIL = 0;
+		long[] key = new long[16]; //The key of each node
+		int[] value = new int[16], max = new int[16]; //The value of each node and the largest value in its subtree
+		int[] left = new int[16], right = new int[16]; //The children of each node
+		int[] weight = new int[16]; //The random heap priority of each node
+		int root = NIL; //The root of the tree
+		int size; //The number of keys in the tree
+		int used = 1; //The number of node indices handed out, including the empty tree
+		int free = NIL; //The first reusable node, linked through left
+		int seed = 0x9E3779B9; //The state of the xorshift generator for the priorities
+		int splitLeft, splitRight; //The two trees returned by split
+
+		//This method returns a new node with the given key and value
+		int node(long k, int v) {
+			int n;
+			if (free != NIL) {
+				n = free;
+				free = left[n];
+			} else {
+				//If the node arrays are full, double their capacity
+				if (used == key.length) {
+					int capacity = key.length * 2;
+					key = Arrays.copyOf(key, capacity);
+					value = Arrays.copyOf(value, capacity);
+					max = Arrays.copyOf(max, capacity);
+					left = Arrays.copyOf(left, capacity);
+					right = Arrays.copyOf(right, capacity);
+					weight = Arrays.copyOf(weight, capacity);
+				}
+				n = used++;
+			}
+			seed ^= seed << 13;
+			seed ^= seed >>> 17;
+			seed ^= seed << 5;
+			key[n] = k;
+			value[n] = v;
+			max[n] = v;
+			left[n] = NIL;
+			right[n] = NIL;
+			weight[n] = seed;
+			return n;
+		}
+
+		//This method recomputes the largest value in the subtree of a node from its children
+		void update(int n) {
+			int m = value[n];
+			if (left[n] != NIL && max[left[n]] > m)
+				m = max[left[n]];
+			if (right[n] != NIL && max[right[n]] > m)
+				m = max[right[n]];
+			max[n] = m;
+		}
+
+		//This method splits a subtree into the keys below k (splitLeft) and the keys at or above k (splitRight)
+		void split(int n, long k) {
+			if (n == NIL) {
+				splitLeft = NIL;
+				splitRight = NIL;
+			} else if (key[n] < k) {
+				split(right[n], k);
+				right[n] = splitLeft;
+				update(n);
+				splitLeft = n;
+			} else {
+				split(left[n], k);
+				left[n] = splitRight;
+				update(n);
+				splitRight = n;
+			}
+		}
+
+		//This method joins two subtrees where every key of a is below every key of b and returns the joined subtree
+		int merge(int a, int b) {
+			if (a == NIL)
+				return b;
+			if (b == NIL)
+				return a;
+			if (weight[a] > weight[b]) {
+				right[a] = merge(right[a], b);
+				update(a);
+				return a;
+			}
+			left[b] = merge(a, left[b]);
+			update(b);
+			return b;
+		}
+
+		//This method inserts a key that is not yet in the tree and returns its node
+		int insert(long k, int v) {
+			int n = node(k, v);
+			root = insertInto(root, n);
+			size++;
+			return n;
+		}
+
+		//This method inserts a node into the given subtree and returns the new root of the subtree
+		//The node descends by key until its priority beats the subtree root, where the rest of the subtree is split under it
+		int insertInto(int t, int n) {
+			if (t == NIL)
+				return n;
+			if (weight[n] > weight[t]) {
+				split(t, key[n]);
+				left[n] = splitLeft;
+				right[n] = splitRight;
+				update(n);
+				return n;
+			}
+			if (key[n] < key[t]) {
+				left[t] = insertInto(left[t], n);
+			} else {
+				right[t] = insertInto(right[t], n);
+			}
+			update(t);
+			return t;
+		}
+
+		//This method removes a key if it is in the tree
+		void remove(long k) {
+			root = removeFrom(root, k);
+		}
+
+		//This method removes a key from the given subtree and returns the new root of the subtree
+		int removeFrom(int t, long k) {
+			if (t == NIL)
+				return NIL;
+			if (k < key[t]) {
+				left[t] = removeFrom(left[t], k);
+			} else if (k > key[t]) {
+				right[t] = removeFrom(right[t], k);
+			} else {
+				int joined = merge(left[t], right[t]);
+				left[t] = free;
+				free = t;
+				size--;
+				return joined;
+			}
+			update(t);
+			return t;
+		}
+
+		//This method changes the key and value of the node holding oldKey in place
+		//The new key must keep the node between its neighbours, so only the largest values on its path are recomputed
+		void replace(long oldKey, long newKey, int newValue) {
+			replace(root, oldKey, newKey, newValue);
+		}
+
+		//This method changes the key and value of the node holding oldKey in the given subtree
+		void replace(int n, long oldKey, long newKey, int newValue) {
+			if (n == NIL)
+				return;
+			if (oldKey < key[n]) {
+				replace(left[n], oldKey, newKey, newValue);
+			} else if (oldKey > key[n]) {
+				replace(right[n], oldKey, newKey, newValue);
+			} else {
+				key[n] = newKey;
+				value[n] = newValue;
+			}
+			update(n);
+		}
+
+		//This method returns the node with the smallest key at or above minKey whose value is at least minValue, or NIL
+		int first(long minKey, int minValue) {
+			return first(root, minKey, minValue);
+		}
+
+		//This method searches the given subtree for the node with the smallest key at or above minKey whose value is at
+		//least minValue; subtrees whose largest value is too small are skipped without being visited
+		int first(int n, long minKey, int minValue) {
+			if (n == NIL || max[n] < minValue)
+				return NIL;
+			if (key[n] < minKey)
+				return first(right[n], minKey, minValue);
+			int found = first(left[n], minKey, minValue);
+			if (found != NIL)
+				return found;
+			if (value[n] >= minValue)
+				return n;
+			return first(right[n], minKey, minValue);
+		}
+
+		//This method returns the node with the smallest key at or above k, or NIL
+		int ceiling(long k) {
+			int found = NIL;
+			for (int n = root; n != NIL; ) {
+				if (key[n] >= k) {
+					found = n;
+					n = left[n];
+				} else {
+					n = right[n];
+				}
+			}
+			return found;
+		}
+
+		//This method returns the node with the largest key at or below k, or NIL
+		int floor(long k) {
+			int found = NIL;
+			for (int n = root; n != NIL; ) {
+				if (key[n] <= k) {
+					found = n;
+					n = right[n];
+				} else {
+					n = left[n];
+				}
+			}
+			return found;
+		}
+
+		//This method returns the largest value in the tree, or Integer.MIN_VALUE if it is empty
+		int largest() {
+			return root == NIL ? Integer.MIN_VALUE : max[root];
+		}
+	}
+
+	//This interface is the memory allocator used by the memory simulations
+	interface Allocator {
+		//This method returns the name printed in the simulation headers
+		String name();
+
+		//This method allocates memory for a request and returns the address of its block, or -1 if it cannot be placed
+		int allocate(int request);
+
+		//This method frees the block allocated at the given address for a request of the given size
+		void free(int address, int request);
+
+		//This method returns the size of the block that holds a request of the given size
+		int blockSize(int request);
+
+		//This method returns the free memory
+		long available();
+
+		//This method returns the size of the largest free block, or 0 if there is none
+		int largestFree();
+
+		//This method returns the number of free blocks
+		int holes();
+
+		//This method returns the external fragmentation: the fraction of the free memory outside the largest free block
+		default double externalFragmentation() {
+			long available = available();
+			return available == 0 ? 0.0 : 1.0 - (double) largestFree() / available;
+		}
+	}
+
+	//This class allocates memory from a set of holes with one of the placement strategies
+	//The holes are indexed by address in a treap that also tracks the largest hole in every subtree, so first-fit,
+	//next-fit and worst-fit lookups take O(log n); best fit additionally keeps the holes ordered by (size, address).
+	//Like firstFitAllocation, an allocation is taken from the front of the chosen hole and a hole that is used up is removed
+	static class MemoryAllocator implements Allocator {
+		FitStrategy strategy; //The placement strategy
+		Treap byAddress = new Treap(); //The holes keyed by start address, with their sizes as values
+		Treap bySize; //The holes keyed by (size, start address) with their address index nodes as values, only kept for best fit
+		int cursor; //The address at which the next-fit search continues
+		long freeMemory; //The total size of the holes
+
+		//This constructor initializes an allocator with no holes
+		MemoryAllocator(FitStrategy strategy) {
+			this.strategy = strategy;
+			if (strategy == FitStrategy.BEST_FIT)
+				bySize = new Treap();
+		}
+
+		//This method packs a hole size and start address into a size index key
+		static long sizeKey(int size, int start) {
+			return ((long) size << 32) | (start & 0xFFFFFFFFL);
+		}
+
+		//This method adds a hole that does not overlap any other hole
+		void addHole(int start, int size) {
+			int n = byAddress.insert(start, size);
+			if (bySize != null)
+				bySize.insert(sizeKey(size, start), n);
+			freeMemory += size;
+		}
+
+		//This method removes the hole with the given start address and size
+		void removeHole(int start, int size) {
+			byAddress.remove(start);
+			if (bySize != null)
+				bySize.remove(sizeKey(size, start));
+			freeMemory -= size;
+		}
+
+		@Override
+		public String name() {
+			return strategy.toString();
+		}
+
+		//This method returns an allocated block to the free memory, merging it with the holes directly before and after it
+		//The neighbours are found in the address index, so freeing takes O(log n)
+		@Override
+		public void free(int start, int size) {
+			if (size <= 0) {
+				return;
+			}
+			//If the hole before the block ends where the block starts, take it into the block
+			int before = byAddress.floor(start);
+			if (before != Treap.NIL && byAddress.key[before] + byAddress.value[before] == start) {
+				int beforeStart = (int) byAddress.key[before], beforeSize = byAddress.value[before];
+				removeHole(beforeStart, beforeSize);
+				start = beforeStart;
+				size += beforeSize;
+			}
+			//If the hole after the block starts where the block ends, take it into the block
+			int after = byAddress.ceiling((long) start + size);
+			if (after != Treap.NIL && byAddress.key[after] == (long) start + size) {
+				int afterSize = byAddress.value[after];
+				removeHole(start + size, afterSize);
+				size += afterSize;
+			}
+			addHole(start, size);
+		}
+
+		@Override
+		public int holes() {
+			return byAddress.size;
+		}
+
+		@Override
+		public int largestFree() {
+			return Math.max(byAddress.largest(), 0);
+		}
+
+		@Override
+		public long available() {
+			return freeMemory;
+		}
+
+		//A request is placed exactly, so its block is the size of the request
+		@Override
+		public int blockSize(int request) {
+			return request;
+		}
+
+		//This method returns the address index node of the hole chosen for the request, or Treap.NIL if none is large enough
+		int find(int request) {
+			switch (strategy) {
+				case FIRST_FIT:
+					return byAddress.first(Long.MIN_VALUE, request);
+				case NEXT_FIT: {
+					int n = byAddress.first(cursor, request);
+					return n != Treap.NIL ? n : byAddress.first(Long.MIN_VALUE, request);
+				}
+				case WORST_FIT: {
+					int largest = byAddress.largest();
+					return largest >= request ? byAddress.first(Long.MIN_VALUE, largest) : Treap.NIL;
+				}
+				default: {
+					//Holes have positive sizes, so a request of 0 or less takes the smallest hole
+					int n = bySize.ceiling(sizeKey(Math.max(request, 0), 0));
+					return n == Treap.NIL ? Treap.NIL : bySize.value[n];
+				}
+			}
+		}
+
+		//This method allocates the request from the front of a hole and returns its start address, or -1 if no hole is
+		//large enough
+		@Override
+		public int allocate(int request) {
+			int n = find(request);
+			if (n == Treap.NIL) {
+				return -1;
+			}
+			int start = (int) byAddress.key[n], size = byAddress.value[n];
+			int newSize = size - request;
+			//If there is remaining space, shrink the hole in place; otherwise, remove it
+			if (newSize > 0) {
+				byAddress.replace(start, start + request, newSize);
+			} else {
+				byAddress.remove(start);
+			}
+			if (bySize != null) {
+				bySize.remove(sizeKey(size, start));
+				if (newSize > 0)
+					bySize.insert(sizeKey(newSize, start + request), n);
+			}
+			freeMemory -= request;
+			cursor = start + request;
+			return start;
+		}
+	}
+
+	//This class is a set of integers below a fixed bound stored as a hierarchical bitmap with 64 bits per word
+	//Each level above the bits holds one bit per word of the level below that is not zero, so setting, clearing and
+	//finding the lowest set bit take one word per level
+	static class BitTree {
+		long[][] levels; //The bit levels, from the bits themselves up to a single summary word
+
+		//This constructor initializes an empty set of integers below the given bound
+		BitTree(long bound) {
+			List<long[]> words = new ArrayList<>();
+			long bits = Math.max(bound, 1);
+			do {
+				long count = (bits + 63) >>> 6;
+				words.add(new long[(int) count]);
+				bits = count;
+			} while (bits > 1);
+			levels = words.toArray(new long[0][]);
+		}
+
+		//This method returns true if the integer is in the set
+		boolean get(int i) {
+			return (levels[0][i >>> 6] & (1L << i)) != 0;
+		}
+
+		//This method adds an integer to the set, marking its word in the level above if the word was empty
+		void set(int i) {
+			for (long[] level : levels) {
+				boolean wasEmpty = level[i >>> 6] == 0;
+				level[i >>> 6] |= 1L << i;
+				if (!wasEmpty)
+					break;
+				i >>>= 6;
+			}
+		}
+
+		//This method removes an integer from the set, clearing its word in the level above if the word became empty
+		void clear(int i) {
+			for (long[] level : levels) {
+				level[i >>> 6] &= ~(1L << i);
+				if (level[i >>> 6] != 0)
+					break;
+				i >>>= 6;
+			}
+		}
+
+		//This method returns the smallest integer in the set, or -1 if it is empty
+		int first() {
+			if (levels[levels.length - 1][0] == 0) {
+				return -1;
+			}
+			int i = 0;
+			for (int l = levels.length - 1; l >= 0; l--) {
+				i = (i << 6) + Long.numberOfTrailingZeros(levels[l][i]);
+			}
+			return i;
+		}
+	}
+
+	//This class is a binary buddy allocator over a memory of 2^maxOrder units
+	//Every block has a power-of-two size of at least 2^minOrder units and starts at a multiple of its size. The free
+	//blocks of each order are kept in a BitTree indexed by address / size, and a mask records which orders have a free
+	//block, so an allocation finds the smallest large-enough order with one bit operation and splits down from it, and
+	//a free merges the block with its buddy (index ^ 1) while the buddy is free. No object is allocated per operation
+	static class BuddyAllocator implements Allocator {
+		int minOrder, maxOrder; //The smallest and largest block orders
+		BitTree[] free; //The free blocks of each order, indexed by order - minOrder
+		int nonEmpty; //Bit k - minOrder is set if there is a free block of order k
+		int[] count; //The number of free blocks of each order
+		int blocks; //The total number of free blocks
+		long available; //The total size of the free blocks
+
+		//This constructor initializes an allocator whose whole memory is one free block
+		BuddyAllocator(int minOrder, int maxOrder) {
+			this.minOrder = minOrder;
+			this.maxOrder = maxOrder;
+			free = new BitTree[maxOrder - minOrder + 1];
+			for (int k = minOrder; k <= maxOrder; k++) {
+				free[k - minOrder] = new BitTree(1L << (maxOrder - k));
+			}
+			count = new int[free.length];
+			push(maxOrder, 0);
+			available = 1L << maxOrder;
+		}
+
+		@Override
+		public String name() {
+			return "BUDDY";
+		}
+
+		//This method returns the order of the block that holds a request; requests of 0 or less take the smallest block
+		int order(int request) {
+			return request <= 1 << minOrder ? minOrder : 32 - Integer.numberOfLeadingZeros(request - 1);
+		}
+
+		//This method marks the block with the given index as free in its order
+		void push(int k, int i) {
+			free[k - minOrder].set(i);
+			count[k - minOrder]++;
+			blocks++;
+			nonEmpty |= 1 << (k - minOrder);
+		}
+
+		//This method marks the block with the given index as no longer free in its order
+		void pop(int k, int i) {
+			free[k - minOrder].clear(i);
+			blocks--;
+			if (--count[k - minOrder] == 0)
+				nonEmpty &= ~(1 << (k - minOrder));
+		}
+
+		@Override
+		public int allocate(int request) {
+			int k = order(request);
+			if (k > maxOrder) {
+				return -1;
+			}
+			//Take the smallest order at or above k that has a free block
+			int candidates = nonEmpty >>> (k - minOrder);
+			if (candidates == 0) {
+				return -1;
+			}
+			int j = k + Integer.numberOfTrailingZeros(candidates);
+			int i = free[j - minOrder].first();
+			pop(j, i);
+			//Split the block in halves down to order k, keeping the lower half and freeing the upper one
+			while (j > k) {
+				j--;
+				i <<= 1;
+				push(j, i + 1);
+			}
+			available -= 1L << k;
+			return i << k;
+		}
+
+		@Override
+		public void free(int address, int request) {
+			int k = order(request);
+			int i = address >>> k;
+			available += 1L << k;
+			//Merge the block with its buddy for as long as the buddy is free
+			while (k < maxOrder && free[k - minOrder].get(i ^ 1)) {
+				pop(k, i ^ 1);
+				i >>>= 1;
+				k++;
+			}
+			push(k, i);
+		}
+
+		@Override
+		public int blockSize(int request) {
+			return 1 << Math.min(order(request), maxOrder);
+		}
+
+		@Override
+		public long available() {
+			return available;
+		}
+
+		@Override
+		public int largestFree() {
+			return nonEmpty == 0 ? 0 : 1 << (minOrder + 31 - Integer.numberOfLeadingZeros(nonEmpty));
+		}
+
+		@Override
+		public int holes() {
+			return blocks;
+		}
+	}
+
+	//This class is a slab allocator: requests up to MAX_SMALL units are rounded up to one of a set of size classes and
+	//placed in slabs of 2^SLAB_ORDER units that each hold objects of one class, and larger requests go to a buddy allocator
+	//that also supplies the slabs. The size classes are spaced four per power of two from 8 units, so a request above the
+	//smallest class wastes at most a quarter of its block, while every request up to 8 units takes an 8-unit block.
+	//Every slab keeps a bitmap of its free objects, the slabs of a class with free objects are linked in a list, and a
+	//slab whose objects are all free is returned to the buddy allocator. The slab state lives in arrays indexed by
+	//address / slab size, so no object is allocated per operation
+	static class SlabAllocator implements Allocator {
+		//This variable is the largest request served from a slab
+		static final int MAX_SMALL = 512;
+		//This variable is the order of the slab size
+		static final int SLAB_ORDER = 12;
+		//This variable is the number of bitmap words of a slab, enough for slab size / smallest class objects
+		static final int WORDS = (1 << SLAB_ORDER) / 8 / 64;
+		//This array stores the size of each class
+		static final int[] CLASS_SIZES;
+		//This array stores the class of every small request size
+		static final int[] CLASS_OF = new int[MAX_SMALL + 1];
+
+		static {
+			List<Integer> sizes = new ArrayList<>();
+			for (int base = 8; base < MAX_SMALL; base *= 2) {
+				for (int step = 0; step < 4; step++) {
+					sizes.add(base + step * base / 4);
+				}
+			}
+			sizes.add(MAX_SMALL);
+			CLASS_SIZES = sizes.stream().mapToInt(Integer::intValue).toArray();
+			for (int request = 0, c = 0; request <= MAX_SMALL; request++) {
+				while (CLASS_SIZES[c] < request) {
+					c++;
+				}
+				CLASS_OF[request] = c;
+			}
+		}
+
+		BuddyAllocator pages; //The buddy allocator supplying the slabs and serving the large requests
+		int[] slabClass; //The class of each slab, or -1 if the block is not a slab
+		int[] slabFree; //The number of free objects in each slab
+		long[] bits; //The free object bitmap of each slab, WORDS words per slab
+		int[] next, prev; //The links of the list of slabs with free objects of each class
+		int[] partial; //The first slab with free objects of each class, or -1
+
+		//This constructor initializes an allocator over a memory of 2^maxOrder units
+		SlabAllocator(int maxOrder) {
+			pages = new BuddyAllocator(3, maxOrder);
+			int slabs = 1 << (maxOrder - SLAB_ORDER);
+			slabClass = new int[slabs];
+			Arrays.fill(slabClass, -1);
+			slabFree = new int[slabs];
+			bits = new long[slabs * WORDS];
+			next = new int[slabs];
+			prev = new int[slabs];
+			partial = new int[CLASS_SIZES.length];
+			Arrays.fill(partial, -1);
+		}
+
+		@Override
+		public String name() {
+			return "SLAB";
+		}
+
+		//This method adds a slab to the front of the list of its class
+		void link(int s) {
+			int c = slabClass[s];
+			prev[s] = -1;
+			next[s] = partial[c];
+			if (partial[c] != -1)
+				prev[partial[c]] = s;
+			partial[c] = s;
+		}
+
+		//This method removes a slab from the list of its class
+		void unlink(int s) {
+			if (prev[s] != -1) {
+				next[prev[s]] = next[s];
+			} else {
+				partial[slabClass[s]] = next[s];
+			}
+			if (next[s] != -1)
+				prev[next[s]] = prev[s];
+		}
+
+		@Override
+		public int allocate(int request) {
+			if (request > MAX_SMALL) {
+				return pages.allocate(request);
+			}
+			int c = CLASS_OF[Math.max(request, 0)];
+			int s = partial[c];
+			//If no slab of the class has a free object, make a new slab with every object free
+			if (s == -1) {
+				int address = pages.allocate(1 << SLAB_ORDER);
+				if (address < 0) {
+					return -1;
+				}
+				s = address >>> SLAB_ORDER;
+				slabClass[s] = c;
+				int objects = (1 << SLAB_ORDER) / CLASS_SIZES[c];
+				slabFree[s] = objects;
+				for (int w = 0; w < WORDS; w++) {
+					int inWord = Math.max(0, Math.min(64, objects - w * 64));
+					bits[s * WORDS + w] = inWord == 64 ? -1L : (1L << inWord) - 1;
+				}
+				link(s);
+			}
+			//Take the first free object of the slab
+			int w = s * WORDS;
+			while (bits[w] == 0) {
+				w++;
+			}
+			int object = (w - s * WORDS) * 64 + Long.numberOfTrailingZeros(bits[w]);
+			bits[w] &= bits[w] - 1;
+			if (--slabFree[s] == 0)
+				unlink(s);
+			return (s << SLAB_ORDER) + object * CLASS_SIZES[c];
+		}
+
+		@Override
+		public void free(int address, int request) {
+			if (request > MAX_SMALL) {
+				pages.free(address, request);
+				return;
+			}
+			int s = address >>> SLAB_ORDER;
+			int c = slabClass[s];
+			int object = (address - (s << SLAB_ORDER)) / CLASS_SIZES[c];
+			bits[s * WORDS + (object >>> 6)] |= 1L << object;
+			if (slabFree[s]++ == 0)
+				link(s);
+			//If every object of the slab is free, return the slab to the buddy allocator
+			if (slabFree[s] == (1 << SLAB_ORDER) / CLASS_SIZES[c]) {
+				unlink(s);
+				slabClass[s] = -1;
+				pages.free(s << SLAB_ORDER, 1 << SLAB_ORDER);
+			}
+		}
+
+		@Override
+		public int blockSize(int request) {
+			return request > MAX_SMALL ? pages.blockSize(request) : CLASS_SIZES[CLASS_OF[Math.max(request, 0)]];
+		}
+
+		//The free objects inside slabs are kept for their class, so only the memory of the buddy allocator counts as free
+		@Override
+		public long available() {
+			return pages.available();
+		}
+
+		@Override
+		public int largestFree() {
+			return pages.largestFree();
+		}
+
+		@Override
+		public int holes() {
+			return pages.holes();
+		}
+	}
+
+
+	//This method implements the first-fit memory allocation strategy over a list of holes
+	//It walks the list from the head on every request; MemoryAllocator makes the same choices in O(log n)
+	static MemoryHole firstFitAllocation(List<MemoryHole> holes, int request) {
+		//Iterate over the list of memory holes
+		for (int i = 0; i < holes.size(); i++) {
+			//Get the current memory hole
+			MemoryHole hole = holes.get(i);
+			//If the hole is large enough for the request, allocate memory from it
+			if (hole.size >= request) {
+				MemoryHole allocated = new MemoryHole(hole.start, request);
+				//Calculate the new start address after allocation
+				int newStart = hole.start + request;
+				//Calculate the remaining size of the hole
+				int newSize = hole.size - request;
+				//If there is remaining space, update the hole; otherwise, remove it
+				if (newSize > 0) {
+					holes.set(i, new MemoryHole(newStart, newSize));
+				} else {
+					holes.remove(i);
+				}
+				//Return the allocated memory block
+				return allocated;
+			}
+		}
+		//Return null if no suitable memory hole is found
+		return null;
+	}
+
+
+
+
+
+
+	//This method simulates memory allocation for processes using the first-fit strategy
+	static void simulateMemoryAllocationFirstFit(List<Process> processes) {
+		simulateMemoryAllocation(processes, FitStrategy.FIRST_FIT);
+	}
+
+	//This method returns an allocator with the given number of memory holes of random sizes
+	static MemoryAllocator generateHoles(int numHoles, FitStrategy strategy) {
+		MemoryAllocator allocator = new MemoryAllocator(strategy);
+		Random rand = new Random();
+		int start = 0;
+		//For each hole, create a memory hole with a random size
+		for (int i = 0; i < numHoles; i++) {
+			//Generate a random size for the memory hole between 100 and 200 units
+			int size = 100 + rand.nextInt(101);
+			allocator.addHole(start, size);
+			//Set the next hole's start address with a gap of 10 units
+			start += size + 10;
+		}
+		return allocator;
+	}
+
+	//This method simulates memory allocation for processes using the given placement strategy
+	//It automatically determines the number of memory holes based on the number of processes
+	static void simulateMemoryAllocation(List<Process> processes, FitStrategy strategy) {
+		//Create an allocator holding the memory holes (one per process)
+		MemoryAllocator allocator = generateHoles(processes.size(), strategy);
+		simulateMemoryAllocation(processes, allocator, strategy + " (Automatically Generated Memory Holes)");
+	}
+
+	//This method simulates memory allocation for processes with the given allocator, printing one line per process
+	//followed by the remaining holes, or for the buddy and slab allocators a summary of the free memory
+	static void simulateMemoryAllocation(List<Process> processes, Allocator allocator, String description) {
+		//Print the simulation header for memory allocation
+		System.out.println("\nMemory Allocation Simulation using " + description + ":");
+		//For each process, attempt to allocate memory with the allocator
+		for (Process p : processes) {
+			int request = p.memoryRequirement; //Get the memory requirement for the process
+			int address = allocator.allocate(request); //Attempt allocation
+			//If allocation was successful, print the allocation details
+			if (address >= 0) {
+				report.print("Process ").print(p.pid).print(" (memory request: ").print(request)
+					  .print(") allocated at address ").print(address).print(" with size ").print(allocator.blockSize(request)).println();
+			}
+			//If allocation failed, print a failure message
+			else {
+				report.print("Process ").print(p.pid).print(" allocation of size ").print(request).print(" failed.").println();
+			}
+		}
+		//If the allocator has no hole list, print a summary of the free memory
+		if (!(allocator instanceof MemoryAllocator)) {
+			report.print("Free memory: ").print(allocator.available()).print(", Largest free block: ").print(allocator.largestFree())
+				  .print(", Free blocks: ").print(allocator.holes()).println().flush();
+			return;
+		}
+		//Print the header for remaining free memory holes
+		report.print("Remaining free holes:").println();
+		//For each remaining memory hole in address order, print its starting address and size
+		Treap holes = ((MemoryAllocator) allocator).byAddress;
+		for (int n = holes.ceiling(Long.MIN_VALUE); n != Treap.NIL; n = holes.ceiling(holes.key[n] + 1)) {
+			report.print("Start: ").print(holes.key[n]).print(", Size: ").print(holes.value[n]).println();
+		}
+		report.flush();
+	}
+
+	//This method returns the order of a contiguous memory of about 150 units per process, the average size of a generated
+	//hole, for the buddy and slab allocators and the first-fit allocator they are compared with
+	static int memoryOrder(int processes) {
+		long units = 150L * Math.max(processes, 1);
+		return Math.max(SlabAllocator.SLAB_ORDER + 1, Math.min(30, 64 - Long.numberOfLeadingZeros(units - 1)));
+	}
+
+	//This class holds the totals of one memory lifetime replay
+	static class MemoryReplay {
+		long requests, failures; //The number of requests and of failed requests
+		double internal, external; //The sums of the internal and external fragmentation at each report
+		int reports; //The number of reports
+	}
+
+	//This method simulates memory over the lifetimes of the processes of a scheduling run with the given placement strategy
+	static void simulateMemoryLifetimes(ScheduleResult result, FitStrategy strategy, int samples) {
+		simulateMemoryLifetimes(result, generateHoles(result.table == null ? 0 : result.table.size, strategy), samples);
+	}
+
+	//This method simulates memory over the lifetimes of the processes of a scheduling run with the given allocator
+	//Each process requests its memory when it arrives and frees it when it completes in the run, and freed blocks are
+	//merged with their free neighbours. Frees at a time are made before the requests at that time. A request that
+	//fails is not retried. The state of the memory is reported at the given number of evenly spaced times up to the
+	//makespan: the processes holding memory, the free memory, the largest free block, the number of free blocks, the
+	//internal and external fragmentation and the failure rate of the requests made since the previous report
+	static void simulateMemoryLifetimes(ScheduleResult result, Allocator allocator, int samples) {
+		System.out.println("\nMemory Lifetime Simulation using " + allocator.name() + " over " + result.title + ":");
+		if (result.error != null || result.order.length == 0) {
+			System.out.println("No processes to simulate.");
+			return;
+		}
+		System.out.printf("%-10s | %-9s | %-11s | %-18s | %-9s | %-22s | %-22s | %s\n", "Time", "Resident", "Free Memory",
+						  "Largest Free Block", "Holes", "Internal Fragmentation", "External Fragmentation", "Failure Rate");
+		MemoryReplay replay = replayLifetimes(result, allocator, samples, true);
+		System.out.printf("Requests: %d | Failures: %d (%.2f%%)\n", replay.requests, replay.failures,
+						  replay.requests == 0 ? 0.0 : 100.0 * replay.failures / replay.requests);
+	}
+
+	//This method replays the memory lifetimes of a scheduling run against an allocator (see simulateMemoryLifetimes)
+	//and returns its totals; the report rows are only printed if print is true
+	static MemoryReplay replayLifetimes(ScheduleResult result, Allocator allocator, int samples, boolean print) {
+		ProcessTable t = result.table;
+		MemoryReplay replay = new MemoryReplay();
+		int[] byArrival = t.arrivalOrder, byCompletion = arrivalOrder(t.completion); //The processes in request and free order
+		int[] address = new int[t.size]; //The address of each process's block, or -1 if its request failed
+		boolean[] requested = new boolean[t.size]; //True once a process has made its request
+		int makespan = result.makespan();
+		long resident = 0, intervalRequests = 0, intervalFailures = 0;
+		long requestedMemory = 0, blockMemory = 0; //The requested sizes and block sizes of the resident processes
+		int a = 0, f = 0, sample = 1;
+		while (sample <= samples) {
+			long boundary = (long) makespan * sample / samples; //The time of the next report
+			//Pick the next event: a free goes first unless it is later, or its process has not made its request yet
+			boolean free = f < t.size && (a == t.size || t.completion[byCompletion[f]] < t.arrival[byArrival[a]]
+					|| (t.completion[byCompletion[f]] == t.arrival[byArrival[a]] && requested[byCompletion[f]]));
+			int time = free ? t.completion[byCompletion[f]] : a < t.size ? t.arrival[byArrival[a]] : Integer.MAX_VALUE;
+			//If the next event is after the report time, make the report first
+			if (time > boundary) {
+				double internal = blockMemory == 0 ? 0.0 : 1.0 - (double) requestedMemory / blockMemory;
+				double external = allocator.externalFragmentation();
+				if (print) {
+					System.out.printf("%-10d | %-9d | %-11d | %-18d | %-9d | %-22s | %-22s | %s\n", boundary, resident, allocator.available(),
+									  allocator.largestFree(), allocator.holes(), String.format("%.2f%%", 100 * internal),
+									  String.format("%.2f%%", 100 * external),
+									  intervalRequests == 0 ? "-" : String.format("%.2f%%", 100.0 * intervalFailures / intervalRequests));
+				}
+				replay.internal += internal;
+				replay.external += external;
+				replay.reports++;
+				intervalRequests = 0;
+				intervalFailures = 0;
+				sample++;
+				continue;
+			}
+			if (free) {
+				int p = byCompletion[f++];
+				if (address[p] >= 0) {
+					int request = t.memoryRequirement[p];
+					allocator.free(address[p], request);
+					resident--;
+					requestedMemory -= Math.max(request, 0);
+					blockMemory -= allocator.blockSize(request);
+				}
+			} else {
+				int p = byArrival[a++];
+				int request = t.memoryRequirement[p];
+				requested[p] = true;
+				address[p] = allocator.allocate(request);
+				replay.requests++;
+				intervalRequests++;
+				if (address[p] < 0) {
+					replay.failures++;
+					intervalFailures++;
+				} else {
+					resident++;
+					requestedMemory += Math.max(request, 0);
+					blockMemory += allocator.blockSize(request);
+				}
+			}
+		}
+		return replay;
+	}
+
+	//This method compares first fit, the buddy allocator and the slab allocator side by side over the memory lifetimes of
+	//a scheduling run, all three managing the same contiguous memory (see memoryOrder)
+	//The fragmentation columns are the averages over the given number of evenly spaced reports
+	static void compareAllocators(ScheduleResult result, int samples) {
+		System.out.println("\nMemory Allocator Comparison over " + result.title + ":");
+		if (result.error != null || result.order.length == 0) {
+			System.out.println("No processes to simulate.");
+			return;
+		}
+		int order = memoryOrder(result.table.size);
+		MemoryAllocator firstFit = new MemoryAllocator(FitStrategy.FIRST_FIT);
+		firstFit.addHole(0, 1 << order);
+		Allocator[] allocators = {firstFit, new BuddyAllocator(3, order), new SlabAllocator(order)};
+		System.out.println("Memory: " + (1 << order) + " units");
+		System.out.printf("%-9s | %-9s | %-9s | %-12s | %-22s | %s\n", "Allocator", "Requests", "Failures", "Failure Rate",
+						  "Internal Fragmentation", "External Fragmentation");
+		for (Allocator allocator : allocators) {
+			MemoryReplay replay = replayLifetimes(result, allocator, samples, false);
+			System.out.printf("%-9s | %-9d | %-9d | %-12s | %-22s | %s\n", allocator.name(), replay.requests, replay.failures,
+							  String.format("%.2f%%", replay.requests == 0 ? 0.0 : 100.0 * replay.failures / replay.requests),
+							  String.format("%.2f%%", 100 * replay.internal / replay.reports),
+							  String.format("%.2f%%", 100 * replay.external / replay.reports));
+		}
+	}
+
+
+
+	//This method simulates paging using the FIFO algorithm and returns the total number of page faults
+	static int simulatePagingFIFO(int[] pageReferences, int numFrames) {
+		//Create a list to represent memory frames
+		List<Integer> frames = new ArrayList<>();
+		int pageFaults = 0; //Initialize the page fault counter to 0
+		//For each page reference
+		for (int page : pageReferences) {
+			//If the page is not currently in memory
+			if (!frames.contains(page)) {
+				pageFaults++; //Increment the page fault counter
+				//If there is space in memory, add the page; otherwise, remove the oldest page and add the new page
+				if (frames.size() < numFrames) {
+					frames.add(page);
+				} else {
+					frames.remove(0);
+					frames.add(page);
+				}
+			}
+		}
+		//Return the total number of page faults
+		return pageFaults;
+	}
+
+
+
+	//This method simulates paging using the LRU algorithm and returns the total number of page faults
+	static int simulatePagingLRU(int[] pageReferences, int numFrames) {
+		//Create a list to represent memory frames
+		List<Integer> frames = new ArrayList<>();
+		int pageFaults = 0; //Initialize the page fault counter to 0
+		//For each page reference
+		for (int page : pageReferences) {
+			//If the page is not currently in memory
+			if (!frames.contains(page)) {
+				pageFaults++; //Increment the page fault counter
+				//If there is space in memory, add the page; otherwise, remove the least recently used page and add the new page
+				if (frames.size() < numFrames) {
+					frames.add(page);
+				} else {
+					frames.remove(0);
+					frames.add(page);
+				}
+			} else {
+				//If the page is already in memory, update its recency by removing and re-adding it
+				frames.remove(Integer.valueOf(page));
+				frames.add(page);
+			}
+		}
+		//Return the total number of page faults
+		return pageFaults;
+	}
+
+
+    
+	//This helper method prompts the user for a yes/no input and returns true for "y" and false for "n"
+	static boolean getYesNo(String prompt, Scanner sc) {
+		//Loop until valid input is received
+		while (true) {
+			System.out.print(prompt); //Print the prompt
+			String input = sc.nextLine().trim().toLowerCase(); //Read and normalize the input
+			if (input.equals("y")) { //If the input is "y"
+				return true;
+			} else if (input.equals("n")) { //If the input is "n"
+				return false;
+			} else { //If the input is invalid
+				System.out.println("Invalid option. Please enter 'y' or 'n'.");
+			}
+		}
+	}
+
+
+
+
+
+
+	//This class maps page numbers to frame slots with open addressing and linear probing in one int array
+	//Each entry is a page and its slot side by side, so a probe touches one cache line. The table is kept at most half
+	//full, so a lookup probes a couple of entries on average, and a removed entry is filled by shifting the following
+	//entries of its probe run back, so no tombstones build up. No page is ever boxed. The table doubles if more pages
+	//than the initial capacity are mapped
+	static class PageMap {
+		//This variable is the slot stored in unused entries
+		static final int EMPTY = -1;
+		int[] table; //The page (even index) and slot (odd index) of each entry; an entry is unused if its slot is EMPTY
+		int mask; //The number of entries minus one
+		int size; //The number of mapped pages
+
+		//This constructor initializes an empty map for the given number of pages
+		PageMap(int capacity) {
+			int entries = Integer.highestOneBit(Math.max(2 * capacity, 2) - 1) << 1; //Round twice the capacity up to a power of two
+			allocate(entries);
+		}
+
+		//This method replaces the table with an empty one of the given number of entries
+		void allocate(int entries) {
+			table = new int[2 * entries];
+			for (int i = 1; i < table.length; i += 2) {
+				table[i] = EMPTY;
+			}
+			mask = entries - 1;
+		}
+
+		//This method doubles the number of entries and maps every page again
+		void grow() {
+			int[] old = table;
+			allocate(2 * (mask + 1));
+			for (int i = 0; i < old.length; i += 2) {
+				if (old[i + 1] != EMPTY) {
+					int j = home(old[i]);
+					while (table[2 * j + 1] != EMPTY) {
+						j = (j + 1) & mask;
+					}
+					table[2 * j] = old[i];
+					table[2 * j + 1] = old[i + 1];
+				}
+			}
+		}
+
+		//This method returns the home entry of a page, spreading consecutive page numbers over the table
+		int home(int page) {
+			int h = page * 0x9E3779B9;
+			return (h ^ (h >>> 16)) & mask;
+		}
+
+		//This method returns the slot of a page, or EMPTY if the page is not mapped
+		int get(int page) {
+			for (int i = home(page); table[2 * i + 1] != EMPTY; i = (i + 1) & mask) {
+				if (table[2 * i] == page)
+					return table[2 * i + 1];
+			}
+			return EMPTY;
+		}
+
+		//This method maps a page to a slot, replacing any slot it was mapped to
+		void put(int page, int slot) {
+			int i = home(page);
+			while (table[2 * i + 1] != EMPTY && table[2 * i] != page) {
+				i = (i + 1) & mask;
+			}
+			if (table[2 * i + 1] == EMPTY) {
+				//Keep the table at most half full
+				if (2 * (size + 1) > mask + 1) {
+					grow();
+					put(page, slot);
+					return;
+				}
+				size++;
+			}
+			table[2 * i] = page;
+			table[2 * i + 1] = slot;
+		}
+
+		//This method removes the mapping of a page, if any
+		void remove(int page) {
+			int gap = home(page);
+			while (table[2 * gap + 1] != EMPTY && table[2 * gap] != page) {
+				gap = (gap + 1) & mask;
+			}
+			if (table[2 * gap + 1] == EMPTY) {
+				return;
+			}
+			size--;
+			//Move back every later entry of the probe run whose home is not between the gap and its position
+			for (int j = (gap + 1) & mask; table[2 * j + 1] != EMPTY; j = (j + 1) & mask) {
+				if (((j - home(table[2 * j])) & mask) >= ((j - gap) & mask)) {
+					table[2 * gap] = table[2 * j];
+					table[2 * gap + 1] = table[2 * j + 1];
+					gap = j;
+				}
+			}
+			table[2 * gap + 1] = EMPTY;
+		}
+	}
+
+	//This class holds the frames of an LRU page replacement simulation
+	//Each frame is a slot in int arrays linked in a doubly linked list from the most to the least recently used page,
+	//and a PageMap finds the slot of a page, so a hit moves its slot to the front and a fault reuses the slot at the
+	//back, both in O(1) without boxing
+	static class LruFrames {
+		int capacity; //The number of frames
+		int size; //The number of frames in use
+		int[] page, prev, next; //The page in each slot and the links of the recency list
+		int head = -1, tail = -1; //The most and least recently used slots, or -1 if no frame is in use
+		PageMap slots; //The slot of each resident page
+
+		//This constructor initializes the given number of empty frames
+		LruFrames(int capacity) {
+			this.capacity = capacity;
+			int frames = Math.max(capacity, 0);
+			page = new int[frames];
+			prev = new int[frames];
+			next = new int[frames];
+			slots = new PageMap(frames);
+		}
+
+		//This method removes a slot from the recency list
+		void unlink(int s) {
+			if (prev[s] != -1) {
+				next[prev[s]] = next[s];
+			} else {
+				head = next[s];
+			}
+			if (next[s] != -1) {
+				prev[next[s]] = prev[s];
+			} else {
+				tail = prev[s];
+			}
+		}
+
+		//This method adds a slot to the front of the recency list
+		void pushFront(int s) {
+			prev[s] = -1;
+			next[s] = head;
+			if (head != -1) {
+				prev[head] = s;
+			} else {
+				tail = s;
+			}
+			head = s;
+		}
+
+		//This method references a page and returns true if it was resident (a hit) or false if it caused a page fault
+		boolean access(int p) {
+			int s = slots.get(p);
+			//If the page is resident, make it the most recently used
+			if (s != PageMap.EMPTY) {
+				if (s != head) {
+					unlink(s);
+					pushFront(s);
+				}
+				return true;
+			}
+			if (capacity <= 0) {
+				return false;
+			}
+			//Use a free frame, or evict the least recently used page
+			if (size < capacity) {
+				s = size++;
+			} else {
+				s = tail;
+				unlink(s);
+				slots.remove(page[s]);
+			}
+			page[s] = p;
+			slots.put(p, s);
+			pushFront(s);
+			return false;
+		}
+	}
+
+	//This method simulates paging using the LRU algorithm over the indexed frames of LruFrames and returns the total number
+	//of page faults; it counts the same faults as simulatePagingLRU in O(1) per reference
+	static long simulatePagingLRUIndexed(int[] pageReferences, int numFrames) {
+		LruFrames frames = new LruFrames(numFrames);
+		long pageFaults = 0;
+		for (int page : pageReferences) {
+			if (!frames.access(page))
+				pageFaults++;
+		}
+		return pageFaults;
+	}
+
+	//This method simulates paging using Belady's optimal (OPT) algorithm and returns the total number of page faults
+	//A backward pass over the references first records where each reference's page is used next, so a fault evicts the
+	//resident page whose next use is farthest away by taking the top of a max-heap of the frames keyed by next use; a
+	//hit only moves its frame down the heap to its new next use, so each reference costs O(log frames)
+	static long simulatePagingOPT(int[] pageReferences, int numFrames) {
+		int n = pageReferences.length;
+		if (numFrames <= 0) {
+			return n;
+		}
+		//Find the next use of every reference, or Integer.MAX_VALUE if its page is never used again
+		int[] nextUse = new int[n];
+		PageMap lastUse = new PageMap(Math.min(n, 1 << 16));
+		for (int i = n - 1; i >= 0; i--) {
+			int later = lastUse.get(pageReferences[i]);
+			nextUse[i] = later == PageMap.EMPTY ? Integer.MAX_VALUE : later;
+			lastUse.put(pageReferences[i], i);
+		}
+		lastUse = null; //Release the index before the frames are allocated
+		int[] page = new int[numFrames]; //The page in each frame
+		int[] key = new int[numFrames]; //The next use of the page in each frame
+		int[] heap = new int[numFrames]; //The frames as a max-heap on their next use
+		int[] position = new int[numFrames]; //The position of each frame in the heap
+		PageMap slots = new PageMap(numFrames);
+		int size = 0;
+		long pageFaults = 0;
+		for (int i = 0; i < n; i++) {
+			int p = pageReferences[i];
+			int s = slots.get(p);
+			int at;
+			if (s != PageMap.EMPTY) {
+				//A hit pushes the frame's next use later, so it can only rise in the max-heap
+				key[s] = nextUse[i];
+				at = position[s];
+			} else {
+				pageFaults++;
+				//Use a free frame at the bottom of the heap, or replace the page used farthest in the future at the top
+				if (size < numFrames) {
+					s = size;
+					at = size++;
+				} else {
+					s = heap[0];
+					at = 0;
+					slots.remove(page[s]);
+				}
+				page[s] = p;
+				key[s] = nextUse[i];
+				slots.put(p, s);
+				//Sift the replaced top down to its place
+				while (2 * at + 1 < size) {
+					int child = 2 * at + 1;
+					if (child + 1 < size && key[heap[child + 1]] > key[heap[child]]) {
+						child++;
+					}
+					if (key[heap[child]] <= key[s]) {
+						break;
+					}
+					heap[at] = heap[child];
+					position[heap[at]] = at;
+					at = child;
+				}
+			}
+			//Sift the frame up to its place
+			while (at > 0 && key[heap[(at - 1) / 2]] < key[s]) {
+				heap[at] = heap[(at - 1) / 2];
+				position[heap[at]] = at;
+				at = (at - 1) / 2;
+			}
+			heap[at] = s;
+			position[s] = at;
+		}
+		return pageFaults;
+	}
+
+	//This class holds the frames of a Clock (second chance) page replacement simulation
+	//The frames form a circle with a reference bit each; a hit sets the bit of its frame, and a fault advances the hand,
+	//clearing set bits, until it finds a frame whose bit is clear and replaces its page. Every bit the hand clears was
+	//set by an earlier reference, so a fault costs O(1) amortized
+	static class ClockFrames {
+		int capacity; //The number of frames
+		int size; //The number of frames in use
+		int hand; //The next frame the hand considers for replacement
+		int[] page; //The page in each frame
+		boolean[] referenced; //The reference bit of each frame
+		PageMap slots; //The frame of each resident page
+
+		//This constructor initializes the given number of empty frames
+		ClockFrames(int capacity) {
+			this.capacity = capacity;
+			int frames = Math.max(capacity, 0);
+			page = new int[frames];
+			referenced = new boolean[frames];
+			slots = new PageMap(frames);
+		}
+
+		//This method references a page and returns true if it was resident (a hit) or false if it caused a page fault
+		boolean access(int p) {
+			int s = slots.get(p);
+			if (s != PageMap.EMPTY) {
+				referenced[s] = true;
+				return true;
+			}
+			if (capacity <= 0) {
+				return false;
+			}
+			//Fill the frames in order, then give every referenced page a second chance before replacing one
+			if (size < capacity) {
+				s = size++;
+			} else {
+				while (referenced[hand]) {
+					referenced[hand] = false;
+					hand = hand + 1 == capacity ? 0 : hand + 1;
+				}
+				s = hand;
+				slots.remove(page[s]);
+			}
+			page[s] = p;
+			referenced[s] = true;
+			slots.put(p, s);
+			hand = s + 1 == capacity ? 0 : s + 1;
+			return false;
+		}
+	}
+
+	//This class holds the frames of an LFU page replacement simulation
+	//Frames with the same reference count are kept in a bucket, a doubly linked list from the most to the least recently
+	//used frame, and the non-empty buckets are linked in order of increasing count. A hit moves its frame to the next
+	//bucket, creating it if its count is missing, and a fault replaces the least recently used frame of the first bucket,
+	//so both are O(1). A page's count starts again at one each time it is loaded
+	static class LfuFrames {
+		int capacity; //The number of frames
+		int size; //The number of frames in use
+		int[] page, prev, next, bucket; //The page in each frame, the links of its bucket list and its bucket
+		int[] count, head, tail, lower, higher; //The reference count, the most and least recently used frames and the
+		                                        //neighbouring buckets of each bucket
+		int[] freeBuckets; //The unused buckets
+		int unused; //The number of unused buckets
+		int lowest = -1; //The bucket with the lowest count, or -1 if no frame is in use
+		PageMap slots; //The frame of each resident page
+
+		//This constructor initializes the given number of empty frames
+		LfuFrames(int capacity) {
+			this.capacity = capacity;
+			int frames = Math.max(capacity, 0);
+			page = new int[frames];
+			prev = new int[frames];
+			next = new int[frames];
+			bucket = new int[frames];
+			//A hit can create a bucket before it empties the one it leaves, so there is one bucket more than frames
+			count = new int[frames + 1];
+			head = new int[frames + 1];
+			tail = new int[frames + 1];
+			lower = new int[frames + 1];
+			higher = new int[frames + 1];
+			freeBuckets = new int[frames + 1];
+			for (int b = 0; b <= frames; b++) {
+				freeBuckets[unused++] = frames - b;
+			}
+			slots = new PageMap(frames);
+		}
+
+		//This method creates an empty bucket for a count between two neighbouring buckets (-1 for none) and returns it
+		int createBucket(int c, int below, int above) {
+			int b = freeBuckets[--unused];
+			count[b] = c;
+			head[b] = tail[b] = -1;
+			lower[b] = below;
+			higher[b] = above;
+			if (below != -1) {
+				higher[below] = b;
+			} else {
+				lowest = b;
+			}
+			if (above != -1) {
+				lower[above] = b;
+			}
+			return b;
+		}
+
+		//This method removes a frame from its bucket, and the bucket if it becomes empty
+		void unlink(int s) {
+			int b = bucket[s];
+			if (prev[s] != -1) {
+				next[prev[s]] = next[s];
+			} else {
+				head[b] = next[s];
+			}
+			if (next[s] != -1) {
+				prev[next[s]] = prev[s];
+			} else {
+				tail[b] = prev[s];
+			}
+			if (head[b] == -1) {
+				if (lower[b] != -1) {
+					higher[lower[b]] = higher[b];
+				} else {
+					lowest = higher[b];
+				}
+				if (higher[b] != -1) {
+					lower[higher[b]] = lower[b];
+				}
+				freeBuckets[unused++] = b;
+			}
+		}
+
+		//This method adds a frame to the front of a bucket
+		void pushFront(int b, int s) {
+			bucket[s] = b;
+			prev[s] = -1;
+			next[s] = head[b];
+			if (head[b] != -1) {
+				prev[head[b]] = s;
+			} else {
+				tail[b] = s;
+			}
+			head[b] = s;
+		}
+
+		//This method references a page and returns true if it was resident (a hit) or false if it caused a page fault
+		boolean access(int p) {
+			int s = slots.get(p);
+			if (s != PageMap.EMPTY) {
+				int b = bucket[s];
+				int above = higher[b];
+				//A frame alone in its bucket just raises the bucket's count when no bucket holds the next count
+				if (head[b] == tail[b] && (above == -1 || count[above] != count[b] + 1)) {
+					count[b]++;
+					return true;
+				}
+				if (above == -1 || count[above] != count[b] + 1) {
+					above = createBucket(count[b] + 1, b, above);
+				}
+				unlink(s);
+				pushFront(above, s);
+				return true;
+			}
+			if (capacity <= 0) {
+				return false;
+			}
+			//Use a free frame, or evict the least recently used of the least frequently used pages
+			if (size < capacity) {
+				s = size++;
+			} else {
+				s = tail[lowest];
+				unlink(s);
+				slots.remove(page[s]);
+			}
+			page[s] = p;
+			slots.put(p, s);
+			int b = lowest != -1 && count[lowest] == 1 ? lowest : createBucket(1, -1, lowest);
+			pushFront(b, s);
+			return false;
+		}
+	}
+
+	//This class holds the frames of an ARC (Adaptive Replacement Cache) page replacement simulation
+	//Resident pages are split between T1, pages referenced once since they were loaded, and T2, pages referenced again.
+	//The ghost lists B1 and B2 remember the pages most recently evicted from T1 and T2 without holding them, and a fault
+	//on a ghost moves the target size of T1 towards the list that would have kept the page. The four lists are LRU lists
+	//over one set of int arrays with room for twice the frames, and a PageMap finds the entry of every listed page, so
+	//each reference is O(1)
+	static class ArcFrames {
+		//These variables identify the lists
+		static final int T1 = 0, T2 = 1, B1 = 2, B2 = 3;
+		int capacity; //The number of frames
+		int target; //The target number of frames in T1
+		int[] page, prev, next, list; //The page of each entry, the links of its list and the list it is on
+		int[] head = {-1, -1, -1, -1}, tail = {-1, -1, -1, -1}; //The most and least recently used entry of each list
+		int[] length = new int[4]; //The number of entries on each list
+		int used; //The number of entries ever used
+		int[] freeEntries; //The entries released by the directory
+		int unused; //The number of released entries
+		PageMap entries; //The entry of each page on any list
+
+		//This constructor initializes the given number of empty frames
+		ArcFrames(int capacity) {
+			this.capacity = capacity;
+			int directory = 2 * Math.max(capacity, 0);
+			page = new int[directory];
+			prev = new int[directory];
+			next = new int[directory];
+			list = new int[directory];
+			freeEntries = new int[directory];
+			entries = new PageMap(directory);
+		}
+
+		//This method removes an entry from its list
+		void unlink(int e) {
+			int l = list[e];
+			if (prev[e] != -1) {
+				next[prev[e]] = next[e];
+			} else {
+				head[l] = next[e];
+			}
+			if (next[e] != -1) {
+				prev[next[e]] = prev[e];
+			} else {
+				tail[l] = prev[e];
+			}
+			length[l]--;
+		}
+
+		//This method adds an entry to the front of a list
+		void pushFront(int l, int e) {
+			list[e] = l;
+			prev[e] = -1;
+			next[e] = head[l];
+			if (head[l] != -1) {
+				prev[head[l]] = e;
+			} else {
+				tail[l] = e;
+			}
+			head[l] = e;
+			length[l]++;
+		}
+
+		//This method moves an entry to the front of a list
+		void move(int e, int l) {
+			unlink(e);
+			pushFront(l, e);
+		}
+
+		//This method drops the least recently used entry of a list from the directory
+		void drop(int l) {
+			int e = tail[l];
+			unlink(e);
+			entries.remove(page[e]);
+			freeEntries[unused++] = e;
+		}
+
+		//This method evicts a resident page to its ghost list, from T1 if it is above its target and from T2 otherwise
+		void replace(boolean inB2) {
+			if (length[T1] > 0 && (length[T1] > target || (inB2 && length[T1] == target))) {
+				move(tail[T1], B1);
+			} else {
+				move(tail[T2], B2);
+			}
+		}
+
+		//This method references a page and returns true if it was resident (a hit) or false if it caused a page fault
+		boolean access(int p) {
+			int e = entries.get(p);
+			if (e != PageMap.EMPTY) {
+				int l = list[e];
+				if (l == T1 || l == T2) {
+					move(e, T2);
+					return true;
+				}
+				//A ghost hit grows the list the page was evicted from, by the ratio of the ghost lists
+				if (l == B1) {
+					target = Math.min(capacity, target + Math.max(length[B2] / length[B1], 1));
+					replace(false);
+				} else {
+					target = Math.max(0, target - Math.max(length[B1] / length[B2], 1));
+					replace(true);
+				}
+				move(e, T2);
+				return false;
+			}
+			if (capacity <= 0) {
+				return false;
+			}
+			//Make room in the directory and in the frames for a page on no list
+			if (length[T1] + length[B1] == capacity) {
+				if (length[T1] < capacity) {
+					drop(B1);
+					replace(false);
+				} else {
+					drop(T1);
+				}
+			} else {
+				int listed = length[T1] + length[T2] + length[B1] + length[B2];
+				if (listed >= capacity) {
+					if (listed == 2 * capacity) {
+						drop(B2);
+					}
+					replace(false);
+				}
+			}
+			e = unused > 0 ? freeEntries[--unused] : used++;
+			page[e] = p;
+			entries.put(p, e);
+			pushFront(T1, e);
+			return false;
+		}
+	}
+
+	//This method simulates paging using the Clock (second chance) algorithm over the frames of ClockFrames and returns
+	//the total number of page faults
+	static long simulatePagingClock(int[] pageReferences, int numFrames) {
+		ClockFrames frames = new ClockFrames(numFrames);
+		long pageFaults = 0;
+		for (int page : pageReferences) {
+			if (!frames.access(page))
+				pageFaults++;
+		}
+		return pageFaults;
+	}
+
+	//This method simulates paging using the LFU algorithm over the frequency buckets of LfuFrames and returns the total
+	//number of page faults
+	static long simulatePagingLFU(int[] pageReferences, int numFrames) {
+		LfuFrames frames = new LfuFrames(numFrames);
+		long pageFaults = 0;
+		for (int page : pageReferences) {
+			if (!frames.access(page))
+				pageFaults++;
+		}
+		return pageFaults;
+	}
+
+	//This method simulates paging using the ARC algorithm over the lists of ArcFrames and returns the total number of
+	//page faults
+	static long simulatePagingARC(int[] pageReferences, int numFrames) {
+		ArcFrames frames = new ArcFrames(numFrames);
+		long pageFaults = 0;
+		for (int page : pageReferences) {
+			if (!frames.access(page))
+				pageFaults++;
+		}
+		return pageFaults;
+	}
+
+	//This method simulates paging using the named algorithm (fifo, lru, opt, clock, lfu or arc) and returns the total
+	//number of page faults
+	static long simulatePaging(String algorithm, int[] pageReferences, int numFrames) {
+		return switch (algorithm) {
+			case "fifo" -> simulatePagingFIFO(pageReferences, numFrames);
+			case "lru" -> simulatePagingLRUIndexed(pageReferences, numFrames);
+			case "opt" -> simulatePagingOPT(pageReferences, numFrames);
+			case "clock" -> simulatePagingClock(pageReferences, numFrames);
+			case "lfu" -> simulatePagingLFU(pageReferences, numFrames);
+			case "arc" -> simulatePagingARC(pageReferences, numFrames);
+			default -> throw new IllegalArgumentException("Unknown paging algorithm: " + algorithm);
+		};
+	}
+
+	//This method runs every paging algorithm over the sample page reference string and prints the page faults of each
+	static void pagingSimulation() {
+		//Define an array of page references for paging simulation
+		int[] pageRefs = {7, 0, 1, 2, 0, 3, 0, 4, 2, 3, 0, 3, 2};
+		//Define the number of memory frames for the paging simulation
+		int numFrames = 3;
+		//Simulate FIFO paging and capture the number of page faults
+		int fifoFaults = simulatePagingFIFO(pageRefs, numFrames);
+		//Simulate LRU paging and capture the number of page faults
+		long lruFaults = simulatePagingLRUIndexed(pageRefs, numFrames);
+		//Print the header for paging simulation
+		System.out.println("\nPaging Simulation:");
+		//Print the number of FIFO page faults
+		System.out.println("FIFO Page Faults: " + fifoFaults);
+		//Print the number of LRU page faults
+		System.out.println("LRU Page Faults: " + lruFaults);
+		//Print the page faults of Clock, LFU and ARC, and of OPT, the fewest any algorithm can reach
+		System.out.println("Clock Page Faults: " + simulatePagingClock(pageRefs, numFrames));
+		System.out.println("LFU Page Faults: " + simulatePagingLFU(pageRefs, numFrames));
+		System.out.println("ARC Page Faults: " + simulatePagingARC(pageRefs, numFrames));
+		System.out.println("OPT Page Faults: " + simulatePagingOPT(pageRefs, numFrames));
 	}
 
 
 
+	//This variable lists the scheduling algorithms that can be selected on the command line, in the order they are run
+	static final List<String> CLI_SCHEDULERS = List.of("fcfs", "sjf", "rr", "priority", "srtf", "ppriority", "mlfq", "smp");
 
+	//This class holds the options given on the command line
+	static class CommandLineOptions {
+		String input = "processes.txt"; //The trace to read, in the processes.txt format or the binary trace format
+		Set<String> algorithms = new LinkedHashSet<>(List.of("fcfs", "sjf", "rr", "priority")); //The selected algorithms
+		int quantum = 4; //The time quantum of Round Robin and SMP scheduling
+		int cpus = 4; //The number of CPUs of SMP scheduling
+		int[] mlfqQuanta = {4, 8, 16}; //The time quantum of each MLFQ level
+		int boostInterval = 50; //The MLFQ priority boost interval
+		FitStrategy fit = FitStrategy.FIRST_FIT; //The placement strategy of the memory allocation simulation
+		String allocator = "holes"; //The allocator of the memory simulations: generated holes, buddy or slab
+		String lifetimeScheduler = "fcfs"; //The scheduling algorithm whose completion times end the memory lifetimes
+		int samples = 10; //The number of memory reports of the memory lifetime simulation
+		boolean summary; //True if only a one-line summary per algorithm is printed
+		boolean parallel; //True if the selected algorithms run concurrently
+		boolean stream; //True if the trace is streamed instead of loaded
+		int sweepMin, sweepMax; //The Round Robin time quantum sweep range, or 0 if no sweep is made
+		String convert; //The binary trace to convert the input into, or null
+		String exportProcesses, exportGantt; //The CSV or JSONL files the process and Gantt chart records are exported to, or null
+		String generate; //The synthetic trace to generate, or null
+		TraceGenerator generator = new TraceGenerator(); //The settings of the synthetic trace
+		boolean help; //True if the usage should be printed
 
-
-	//This method simulates First-Come, First-Served scheduling
-	static void fcfsScheduling(List<Process> processes) {
-		//Create a new list to hold copies of the processes so as not to modify the original list
-		List<Process> procs = new ArrayList<>();
-		//For each process in the input list, add a copy to the new list
-		for (Process p : processes) {
-			procs.add(new Process(p));
+		//This method parses the command line arguments and throws IllegalArgumentException on an invalid option
+		static CommandLineOptions parse(String[] args) {
+			CommandLineOptions options = new CommandLineOptions();
+			for (int i = 0; i < args.length; i++) {
+				String arg = args[i];
+				switch (arg) {
+					case "-i", "--input" -> options.input = value(args, ++i, arg);
+					case "-a", "--algorithms" -> options.algorithms = algorithms(value(args, ++i, arg));
+					case "-q", "--quantum" -> options.quantum = positive(value(args, ++i, arg), arg);
+					case "--cpus" -> options.cpus = positive(value(args, ++i, arg), arg);
+					case "--mlfq-quanta" -> {
+						String[] quanta = value(args, ++i, arg).split(",");
+						options.mlfqQuanta = new int[quanta.length];
+						for (int q = 0; q < quanta.length; q++) {
+							options.mlfqQuanta[q] = positive(quanta[q].trim(), arg);
+						}
+					}
+					case "--boost" -> options.boostInterval = positive(value(args, ++i, arg), arg);
+					case "--fit" -> options.fit = fit(value(args, ++i, arg));
+					case "--allocator" -> {
+						options.allocator = value(args, ++i, arg).toLowerCase();
+						if (!List.of("holes", "buddy", "slab").contains(options.allocator)) {
+							throw new IllegalArgumentException("Unknown allocator '" + options.allocator + "', expected holes, buddy or slab.");
+						}
+					}
+					case "--lifetime-scheduler" -> {
+						options.lifetimeScheduler = value(args, ++i, arg).toLowerCase();
+						if (!CLI_SCHEDULERS.contains(options.lifetimeScheduler)) {
+							throw new IllegalArgumentException("Unknown algorithm '" + options.lifetimeScheduler + "'.");
+						}
+					}
+					case "--samples" -> options.samples = positive(value(args, ++i, arg), arg);
+					case "-f", "--format" -> {
+						String format = value(args, ++i, arg);
+						if (!format.equals("text") && !format.equals("summary")) {
+							throw new IllegalArgumentException("Unknown format '" + format + "', expected text or summary.");
+						}
+						options.summary = format.equals("summary");
+					}
+					case "--quiet" -> quiet = true;
+					case "--stats" -> fullStatistics = true;
+					case "--gantt" -> ganttLimit = positive(value(args, ++i, arg), arg);
+					case "--parallel" -> options.parallel = true;
+					case "--metrics" -> metricsRegistry = new MetricsRegistry();
+					case "--stream" -> options.stream = true;
+					case "--sweep" -> {
+						String range = value(args, ++i, arg);
+						int dots = range.indexOf("..");
+						if (dots < 0) {
+							throw new IllegalArgumentException("Invalid sweep range '" + range + "', expected MIN..MAX.");
+						}
+						options.sweepMin = positive(range.substring(0, dots), arg);
+						options.sweepMax = positive(range.substring(dots + 2), arg);
+					}
+					case "--convert" -> options.convert = value(args, ++i, arg);
+					case "--export-processes" -> options.exportProcesses = value(args, ++i, arg);
+					case "--export-gantt" -> options.exportGantt = value(args, ++i, arg);
+					case "--generate" -> options.generate = value(args, ++i, arg);
+					case "--rows" -> options.generator.rows = positiveLong(value(args, ++i, arg), arg);
+					case "--seed" -> options.generator.seed = number(value(args, ++i, arg), arg);
+					case "--arrival-mean" -> options.generator.arrivalMean = TraceGenerator.positive(value(args, ++i, arg), arg);
+					case "--burst" -> options.generator.burst(value(args, ++i, arg));
+					case "--priority" -> options.generator.priority(value(args, ++i, arg));
+					case "--memory" -> options.generator.memory(value(args, ++i, arg));
+					case "-h", "--help" -> options.help = true;
+					default -> throw new IllegalArgumentException("Unknown option '" + arg + "'.");
+				}
+			}
+			return options;
 		}
-		//If there are no processes to schedule, inform the user and return
-		if (procs.isEmpty()) {
-			System.out.println("\n--- FCFS Scheduling ---");
-			System.out.println("No processes to schedule.");
-			return;
+
+		//This method returns the value following an option, or throws if it is missing
+		static String value(String[] args, int i, String option) {
+			if (i >= args.length) {
+				throw new IllegalArgumentException("Option " + option + " requires a value.");
+			}
+			return args[i];
 		}
-		int time = 0; //Initialize simulation time to 0
-		//Create a list to store Gantt chart segments
-		List<GanttSegment> gantt = new ArrayList<>();
-		//Print the header for FCFS scheduling
-		System.out.println("\n--- FCFS Scheduling ---");
-		//For each process in FCFS order
-		for (Process p : procs) {
-			//If the current time is less than the process arrival time, add an idle segment and update time
-			if (time < p.arrival) {
-				gantt.add(new GanttSegment("Idle", time, p.arrival));
-				time = p.arrival;
+
+		//This method parses a positive integer option value
+		static int positive(String value, String option) {
+			try {
+				int n = Integer.parseInt(value);
+				if (n > 0) {
+					return n;
+				}
+			} catch (NumberFormatException e) {
+				//Fall through to the error below
 			}
-			int start = time; //Record the start time for the process
-			//If the CPU initialization time is not yet set, set it now
-			if (p.cpuInit == -1) {
-				p.cpuInit = start;
+			throw new IllegalArgumentException("Option " + option + " requires a positive integer, got '" + value + "'.");
+		}
+
+		//This method parses a positive long option value
+		static long positiveLong(String value, String option) {
+			long n = number(value, option);
+			if (n <= 0) {
+				throw new IllegalArgumentException("Option " + option + " requires a positive integer, got '" + value + "'.");
 			}
-			p.waiting = time - p.arrival; //Calculate the waiting time
-			time += p.burst; //Increment time by the burst time of the process
-			p.completion = time; //Set the completion time
-			p.turnaround = p.completion - p.arrival; //Calculate the turnaround time
-			//Add a Gantt segment for the process
-			gantt.add(new GanttSegment("P" + p.pid, start, time));
-		}
-		//Calculate the average waiting time for all processes
-		double avgWait = procs.stream().mapToInt(p -> p.waiting).average().orElse(0);
-		//Calculate the average turnaround time for all processes
-		double avgTurnaround = procs.stream().mapToInt(p -> p.turnaround).average().orElse(0);
-		//Print the Gantt chart
-		printGanttChart(gantt);
-		//For each process, print the process details and computed metrics
-		for (Process p : procs) {
-			System.out.printf("PID: %-3d | CPU Init: %-3d | Waiting Time: %-3d | Turnaround Time: %-3d\n", p.pid, p.cpuInit, p.waiting, p.turnaround);
+			return n;
 		}
-		//Print the average waiting time and average turnaround time
-		System.out.printf("Average Waiting Time: %.2f\n", avgWait);
-		System.out.printf("Average Turnaround Time: %.2f\n", avgTurnaround);
-	}
 
-	//This method simulates Shortest Job First scheduling (non-preemptive)
-	static void sjfScheduling(List<Process> processes) {
-		//Create a list to hold copies of the processes
-		List<Process> procs = new ArrayList<>();
-		//For each process, add a copy to the new list
-		for (Process p : processes) {
-			procs.add(new Process(p));
+		//This method parses a long option value
+		static long number(String value, String option) {
+			try {
+				return Long.parseLong(value);
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("Option " + option + " requires an integer, got '" + value + "'.");
+			}
 		}
-		//If there are no processes to schedule, inform the user and return
-		if (procs.isEmpty()) {
-			System.out.println("\n--- SJF Scheduling (Non-Preemptive) ---");
-			System.out.println("No processes to schedule.");
-			return;
+
+		//This method parses a memory placement strategy: first, best, worst or next
+		static FitStrategy fit(String name) {
+			return switch (name.toLowerCase()) {
+				case "first" -> FitStrategy.FIRST_FIT;
+				case "best" -> FitStrategy.BEST_FIT;
+				case "worst" -> FitStrategy.WORST_FIT;
+				case "next" -> FitStrategy.NEXT_FIT;
+				default -> throw new IllegalArgumentException("Unknown fit '" + name + "', expected first, best, worst or next.");
+			};
 		}
-		int time = 0; //Initialize simulation time to 0
-		//Create a list to store Gantt chart segments
-		List<GanttSegment> gantt = new ArrayList<>();
-		//Create a list to store finished processes
-		List<Process> finished = new ArrayList<>();
-		//Print the header for SJF scheduling
-		System.out.println("\n--- SJF Scheduling (Non-Preemptive) ---");
-		//Continue scheduling until all processes are finished
-		while (!procs.isEmpty()) {
-			//Create a list for processes that have arrived by the current time
-			List<Process> available = new ArrayList<>();
-			//For each process, if it has arrived then add it to the available list
-			for (Process p : procs) {
-				if (p.arrival <= time)
-					available.add(p);
-			}
-			//If no process is available, add an idle segment and update the time to the next arrival
-			if (available.isEmpty()) {
-				int nextArrival = procs.stream().mapToInt(p -> p.arrival).min().orElse(time);
-				gantt.add(new GanttSegment("Idle", time, nextArrival));
-				time = nextArrival;
-				continue;
-			}
-			//Assume the first available process is the shortest job
-			Process current = available.get(0);
-			//For each available process, update the current process if a shorter job is found
-			for (Process p : available) {
-				if (p.burst < current.burst)
-					current = p;
-			}
-			//Remove the selected process from the process list
-			procs.remove(current);
-			int start = time; //Record the start time for the process
-			//If the CPU initialization time is not set, set it now
-			if (current.cpuInit == -1) {
-				current.cpuInit = start;
+
+		//This method parses a comma-separated algorithm list; "all" selects every scheduling algorithm
+		static Set<String> algorithms(String list) {
+			Set<String> algorithms = new LinkedHashSet<>();
+			for (String name : list.toLowerCase().split(",")) {
+				name = name.trim();
+				if (name.equals("all")) {
+					algorithms.addAll(CLI_SCHEDULERS);
+				} else if (CLI_SCHEDULERS.contains(name) || name.equals("memory") || name.equals("lifetime") || name.equals("allocators")
+						   || name.equals("paging")) {
+					algorithms.add(name);
+				} else {
+					throw new IllegalArgumentException("Unknown algorithm '" + name + "'.");
+				}
 			}
-			current.waiting = time - current.arrival; //Calculate the waiting time
-			time += current.burst; //Increment time by the burst time
-			current.completion = time; //Set the completion time
-			current.turnaround = current.completion - current.arrival; //Calculate the turnaround time
-			//Add a Gantt segment for the process
-			gantt.add(new GanttSegment("P" + current.pid, start, time));
-			//Add the process to the finished list
-			finished.add(current);
-		}
-		//Calculate the average waiting time and average turnaround time for the finished processes
-		double avgWait = finished.stream().mapToInt(p -> p.waiting).average().orElse(0);
-		double avgTurnaround = finished.stream().mapToInt(p -> p.turnaround).average().orElse(0);
-		//Print the Gantt chart
-		printGanttChart(gantt);
-		//For each finished process, print the process details and computed metrics
-		for (Process p : finished) {
-			System.out.printf("PID: %-3d | CPU Init: %-3d | Waiting Time: %-3d | Turnaround Time: %-3d\n", p.pid, p.cpuInit, p.waiting, p.turnaround);
+			return algorithms;
 		}
-		//Print the average waiting time and average turnaround time
-		System.out.printf("Average Waiting Time: %.2f\n", avgWait);
-		System.out.printf("Average Turnaround Time: %.2f\n", avgTurnaround);
 	}
 
+	//This method prints the command line usage
+	static void printUsage() {
+		System.out.println("""
+				Usage: java OperatingSystemSchedulesProcesses [options]
+				With no options the simulation runs interactively.
 
+				Options:
+				  -i, --input PATH        Process trace, text or binary (default processes.txt)
+				  -a, --algorithms LIST   Comma-separated list of fcfs, sjf, rr, priority, srtf, ppriority, mlfq, smp,
+				                          memory, lifetime, allocators, paging or all (default fcfs,sjf,rr,priority)
+				  -q, --quantum N         Time quantum of Round Robin and SMP scheduling (default 4)
+				      --cpus N            Number of CPUs of SMP scheduling (default 4)
+				      --mlfq-quanta LIST  Comma-separated time quantum of each MLFQ level (default 4,8,16)
+				      --boost N           MLFQ priority boost interval (default 50)
+				      --fit STRATEGY      Placement of the memory simulation: first, best, worst or next (default first)
+				      --allocator KIND    Allocator of the memory simulations: holes (generated holes placed with --fit),
+				                          buddy or slab (default holes)
+				      --lifetime-scheduler NAME
+				                          Algorithm whose completion times free the memory in the lifetime
+				                          simulation (default fcfs)
+				      --samples N         Number of memory reports of the lifetime simulation and of the allocator
+				                          comparison (default 10)
+				  -f, --format FORMAT     text prints the full report, summary prints one line per algorithm (default text)
+				      --quiet             Leave out Gantt charts and per-process lines
+				      --stats             Also print the spread and percentiles of the waiting, turnaround and response
+				                          times, the throughput, the CPU utilization and Jain's fairness index
+				      --gantt N           Show only the first and last N segments of each Gantt chart
+				      --parallel          Run the selected algorithms concurrently
+				      --metrics           Print dispatch counts, queue lengths, timings and waiting and turnaround
+				                          time percentiles of each run
+				      --stream            Stream a sorted text trace through FCFS and Round Robin without loading it
+				      --sweep MIN..MAX    Also run a Round Robin time quantum sweep over the range
+				      --convert OUT       Convert the text trace to the binary trace format and exit
+				      --export-processes PATH
+				                          Stream per-process records to a .csv or .jsonl file
+				      --export-gantt PATH Stream Gantt chart segments to a .csv or .jsonl file
+				  -h, --help              Print this message and exit
 
+				Trace generation:
+				      --generate OUT      Write a seeded synthetic trace in the processes.txt format and exit
+				      --rows N            Number of processes (default 1000000)
+				      --seed N            Random seed (default 42)
+				      --arrival-mean X    Mean gap between Poisson arrivals (default 5)
+				      --burst SPEC        exp:MEAN or bimodal:SHORT_MEAN,LONG_MEAN,SHORT_PROBABILITY (default exp:5)
+				      --priority SPEC     zipf:LEVELS,EXPONENT (default zipf:10,1)
+				      --memory SPEC       zipf:CLASSES,EXPONENT,UNIT or none for no memory column (default none)""");
+	}
 
-
-
-	//This method simulates Round Robin scheduling with a specified time quantum
-	static void roundRobinScheduling(List<Process> processes, int timeQuantum) {
-		//Create a list to hold copies of the processes
-		List<Process> procs = new ArrayList<>();
-		//For each process, add a copy to the list
-		for (Process p : processes) {
-			procs.add(new Process(p));
+	//This method runs the simulation non-interactively as described by the command line arguments
+	static void runCommandLine(String[] args) {
+		CommandLineOptions options;
+		try {
+			options = CommandLineOptions.parse(args);
 		}
-		//If there are no processes to schedule, inform the user and return
-		if (procs.isEmpty()) {
-			System.out.println("\n--- Round Robin Scheduling (Time Quantum = " + timeQuantum + ") ---");
-			System.out.println("No processes to schedule.");
+		//If an option is invalid, print the error and the usage
+		catch (IllegalArgumentException e) {
+			System.out.println("Error: " + e.getMessage());
+			printUsage();
 			return;
 		}
-		//Initialize the remaining burst time for each process
-		for (Process p : procs) {
-			p.remaining = p.burst;
+		if (options.help) {
+			printUsage();
+			return;
 		}
-		int time = 0; //Initialize simulation time to 0
-		//Create a list to store Gantt chart segments
-		List<GanttSegment> gantt = new ArrayList<>();
-		//Create a list to store finished processes
-		List<Process> finished = new ArrayList<>();
-		//Create a list for processes that have not yet been added to the scheduling queue
-		List<Process> notAdded = new ArrayList<>(procs);
-		//Sort the notAdded list by arrival time
-		notAdded.sort(Comparator.comparingInt(p -> p.arrival));
-		//Create a scheduling queue
-		List<Process> queue = new ArrayList<>();
-		//Print the header for Round Robin scheduling
-		System.out.println("\n--- Round Robin Scheduling (Time Quantum = " + timeQuantum + ") ---");
-		//Continue scheduling until both the queue and the notAdded list are empty
-		while (!queue.isEmpty() || !notAdded.isEmpty()) {
-			//If the queue is empty then the CPU is idle
-			if (queue.isEmpty()) {
-				Process nextProc = notAdded.get(0);
-				//If the current time is less than the arrival time of the next process, add an idle segment and update time
-				if (time < nextProc.arrival) {
-					gantt.add(new GanttSegment("Idle", time, nextProc.arrival));
-					time = nextProc.arrival;
-				}
-				//Add all processes that have arrived by the current time to the queue
-				while (!notAdded.isEmpty() && notAdded.get(0).arrival <= time) {
-					queue.add(notAdded.remove(0));
-				}
+		//Generate a synthetic trace and exit
+		if (options.generate != null) {
+			long begin = System.nanoTime();
+			try {
+				options.generator.write(options.generate, Runtime.getRuntime().availableProcessors());
 			}
-			//Remove the first process from the queue for execution
-			Process current = queue.remove(0);
-			int start = time; //Record the start time for the process
-			//If the CPU initialization time is not set, set it now
-			if (current.cpuInit == -1) {
-				current.cpuInit = start;
+			//Catch invalid generator settings
+			catch (IllegalArgumentException e) {
+				System.out.println("Error: " + e.getMessage());
+				return;
 			}
-			//Determine the execution time as the minimum of the time quantum and the remaining burst time
-			int execTime = Math.min(timeQuantum, current.remaining);
-			time += execTime; //Increment time by the execution time
-			current.remaining -= execTime; //Decrease the remaining burst time
-			//Add a Gantt segment for the execution of the process
-			gantt.add(new GanttSegment("P" + current.pid, start, time));
-			//Add any processes that have arrived during execution to the queue
-			while (!notAdded.isEmpty() && notAdded.get(0).arrival <= time) {
-				queue.add(notAdded.remove(0));
+			//Catch an interruption while generating
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				System.out.println("Error: Trace generation was interrupted.");
+				return;
 			}
-			//If the process is not yet finished, re-add it to the queue; otherwise, calculate its metrics and add it to finished list
-			if (current.remaining > 0) {
-				queue.add(current);
-			} else {
-				current.completion = time;
-				current.turnaround = current.completion - current.arrival;
-				current.waiting = current.turnaround - current.burst;
-				finished.add(current);
+			//Catch a failure to write the file
+			catch (IOException | ExecutionException e) {
+				System.out.println("Error: File " + options.generate + " could not be written: " + e.getMessage());
+				return;
 			}
+			double seconds = (System.nanoTime() - begin) / 1e9;
+			long bytes = new File(options.generate).length();
+			System.out.printf("Generated %d processes in %s (%.1f MB in %.2f s, %.1f MB/s)\n", options.generator.rows,
+							  options.generate, bytes / 1e6, seconds, bytes / 1e6 / seconds);
+			return;
 		}
-		//Sort the finished processes by process ID
-		finished.sort(Comparator.comparingInt(p -> p.pid));
-		//Calculate the average waiting time and average turnaround time for the finished processes
-		double avgWait = finished.stream().mapToInt(p -> p.waiting).average().orElse(0);
-		double avgTurnaround = finished.stream().mapToInt(p -> p.turnaround).average().orElse(0);
-		//Print the Gantt chart for Round Robin scheduling
-		printGanttChart(gantt);
-		//For each finished process, print the process details and computed metrics
-		for (Process p : finished) {
-			System.out.printf("PID: %-3d | CPU Init: %-3d | Waiting Time: %-3d | Turnaround Time: %-3d\n", p.pid, p.cpuInit, p.waiting, p.turnaround);
-		}
-		//Print the average waiting time and average turnaround time
-		System.out.printf("Average Waiting Time: %.2f\n", avgWait);
-		System.out.printf("Average Turnaround Time: %.2f\n", avgTurnaround);
-	}
-
-
-
-
-
-
-	//This method simulates Priority scheduling (non-preemptive) with a reversed priority order (higher value indicates higher priority)
-	static void priorityScheduling(List<Process> processes) {
-		//Create a list to hold copies of the processes
-		List<Process> procs = new ArrayList<>();
-		//For each process, add a copy to the list
-		for (Process p : processes) {
-			procs.add(new Process(p));
-		}
-		//If there are no processes to schedule, inform the user and return
-		if (procs.isEmpty()) {
-			System.out.println("\n--- Priority Scheduling (Non-Preemptive) ---");
-			System.out.println("No processes to schedule.");
+		//Convert the trace and exit
+		if (options.convert != null) {
+			convertTraceToBinary(options.input, options.convert);
 			return;
 		}
-		int time = 0; //Initialize simulation time to 0
-		//Create a list to store Gantt chart segments
-		List<GanttSegment> gantt = new ArrayList<>();
-		//Create a list to store finished processes
-		List<Process> finished = new ArrayList<>();
-		//Print the header for Priority scheduling
-		System.out.println("\n--- Priority Scheduling (Non-Preemptive) ---");
-		//Continue scheduling until all processes are finished
-		while (!procs.isEmpty()) {
-			//Create a list for processes that have arrived by the current time
-			List<Process> available = new ArrayList<>();
-			//For each process, if it has arrived then add it to the available list
-			for (Process p : procs) {
-				if (p.arrival <= time)
-					available.add(p);
-			}
-			//If no process is available, add an idle segment and update the time to the next arrival
-			if (available.isEmpty()) {
-				int nextArrival = procs.stream().mapToInt(p -> p.arrival).min().orElse(time);
-				gantt.add(new GanttSegment("Idle", time, nextArrival));
-				time = nextArrival;
-				continue;
+		//Stream the trace through FCFS and Round Robin, the only algorithms that support it
+		if (options.stream) {
+			for (String algorithm : options.algorithms) {
+				if (!algorithm.equals("fcfs") && !algorithm.equals("rr")) {
+					System.out.println("Error: Only fcfs and rr can be streamed, not " + algorithm + ".");
+					return;
+				}
 			}
-			//Assume the first available process is the highest priority process
-			Process current = available.get(0);
-			//For each available process, update the current process if one with a higher priority (larger value) is found
-			for (Process p : available) {
-				if (p.priority > current.priority)
-					current = p;
+			if (isBinaryTrace(options.input)) {
+				System.out.println("Error: Only text traces can be streamed.");
+				return;
 			}
-			//Remove the selected process from the process list
-			procs.remove(current);
-			int start = time; //Record the start time for the process
-			//If the CPU initialization time is not set, set it now
-			if (current.cpuInit == -1) {
-				current.cpuInit = start;
+			if (options.exportGantt != null) {
+				System.out.println("Error: Gantt charts are not recorded when streaming.");
+				return;
 			}
-			current.waiting = time - current.arrival; //Calculate the waiting time
-			time += current.burst; //Increment time by the burst time
-			current.completion = time; //Set the completion time
-			current.turnaround = current.completion - current.arrival; //Calculate the turnaround time
-			//Add a Gantt segment for the process
-			gantt.add(new GanttSegment("P" + current.pid, start, time));
-			//Add the process to the finished list
-			finished.add(current);
-		}
-		//Calculate the average waiting time and average turnaround time for the finished processes
-		double avgWait = finished.stream().mapToInt(p -> p.waiting).average().orElse(0);
-		double avgTurnaround = finished.stream().mapToInt(p -> p.turnaround).average().orElse(0);
-		//Print the Gantt chart for Priority scheduling
-		printGanttChart(gantt);
-		//For each finished process, print the process details and computed metrics including priority
-		for (Process p : finished) {
-			System.out.printf("PID: %-3d | CPU Init: %-3d | Waiting Time: %-3d | Turnaround Time: %-3d | Priority: %d\n", 
-							  p.pid, p.cpuInit, p.waiting, p.turnaround, p.priority);
-		}
-		//Print the average waiting time and average turnaround time
-		System.out.printf("Average Waiting Time: %.2f\n", avgWait);
-		System.out.printf("Average Turnaround Time: %.2f\n", avgTurnaround);
-	}
-
-	//This method implements the first-fit memory allocation strategy
-	static MemoryHole firstFitAllocation(List<MemoryHole> holes, int request) {
-		//Iterate over the list of memory holes
-		for (int i = 0; i < holes.size(); i++) {
-			//Get the current memory hole
-			MemoryHole hole = holes.get(i);
-			//If the hole is large enough for the request, allocate memory from it
-			if (hole.size >= request) {
-				MemoryHole allocated = new MemoryHole(hole.start, request);
-				//Calculate the new start address after allocation
-				int newStart = hole.start + request;
-				//Calculate the remaining size of the hole
-				int newSize = hole.size - request;
-				//If there is remaining space, update the hole; otherwise, remove it
-				if (newSize > 0) {
-					holes.set(i, new MemoryHole(newStart, newSize));
-				} else {
-					holes.remove(i);
+			try (RecordExporter processExport = openExporter(options.exportProcesses, PROCESS_EXPORT_COLUMNS)) {
+				for (String algorithm : options.algorithms) {
+					if (algorithm.equals("fcfs")) {
+						fcfsSchedulingStream(options.input, processExport);
+					} else {
+						roundRobinSchedulingStream(options.input, options.quantum, processExport);
+					}
 				}
-				//Return the allocated memory block
-				return allocated;
 			}
+			//Catch a failure to create or write an export file
+			catch (IOException | UncheckedIOException | IllegalArgumentException e) {
+				System.out.println("Error: Could not export the results: " + e.getMessage());
+			}
+			return;
 		}
-		//Return null if no suitable memory hole is found
-		return null;
-	}
-
-
-
-
-
-
-	//This method simulates memory allocation for processes using the first-fit strategy
-	//It automatically determines the number of memory holes based on the number of processes
-	static void simulateMemoryAllocationFirstFit(List<Process> processes) {
-		//Determine the number of processes (and thus memory holes)
-		int numHoles = processes.size();
-		//Create a list to hold memory holes (one per process)
-		List<MemoryHole> holes = new ArrayList<>();
-		Random rand = new Random();
-		int start = 0;
-		//For each process, create a memory hole with a random size
-		for (int i = 0; i < numHoles; i++) {
-			//Generate a random size for the memory hole between 100 and 200 units
-			int size = 100 + rand.nextInt(101);
-			holes.add(new MemoryHole(start, size));
-			//Set the next hole's start address with a gap of 10 units
-			start += size + 10;
+		//Read the processes from the binary or text trace
+		long parseBegin = System.nanoTime();
+		List<Process> processes = isBinaryTrace(options.input) ? readProcessesBinary(options.input) : readProcessesMapped(options.input);
+		if (metricsRegistry != null)
+			metricsRegistry.parseNanos = System.nanoTime() - parseBegin;
+		if (processes.isEmpty()) {
+			System.out.println("No processes to schedule. Please check your " + options.input + " file.");
+			return;
 		}
-		//Print the simulation header for memory allocation
-		System.out.println("\nMemory Allocation Simulation using FIRST_FIT (Automatically Generated Memory Holes):");
-		//For each process, attempt to allocate memory using the first-fit strategy
-		for (Process p : processes) {
-			int request = p.memoryRequirement; //Get the memory requirement for the process
-			MemoryHole allocated = firstFitAllocation(holes, request); //Attempt allocation
-			//If allocation was successful, print the allocation details
-			if (allocated != null) {
-				System.out.println("Process " + p.pid + " (memory request: " + request +
-								") allocated at address " + allocated.start + " with size " + allocated.size);
+		ProcessTable table = new ProcessTable(processes);
+		//Open the export files, if any, for the whole batch of runs
+		try (RecordExporter processExport = openExporter(options.exportProcesses, PROCESS_EXPORT_COLUMNS);
+			 RecordExporter ganttExport = openExporter(options.exportGantt, GANTT_EXPORT_COLUMNS)) {
+			//Collect the selected scheduling runs in a fixed order
+			List<Callable<ScheduleResult>> runs = new ArrayList<>();
+			for (String algorithm : CLI_SCHEDULERS) {
+				if (options.algorithms.contains(algorithm)) {
+					runs.add(() -> commandLineResult(algorithm, table, options, processExport, ganttExport));
+				}
 			}
-			//If allocation failed, print a failure message
-			else {
-				System.out.println("Process " + p.pid + " allocation of size " + request + " failed.");
+			List<ScheduleResult> results = runSchedules(runs, options.parallel);
+			if (options.summary) {
+				printSummary(results);
+			} else {
+				for (ScheduleResult result : results) {
+					result.print();
+					System.out.println("\n--------------------\n");
+				}
 			}
+			if (metricsRegistry != null)
+				metricsRegistry.print(results);
 		}
-		//Print the header for remaining free memory holes
-		System.out.println("Remaining free holes:");
-		//For each remaining memory hole, print its starting address and size
-		for (MemoryHole hole : holes) {
-			System.out.println("Start: " + hole.start + ", Size: " + hole.size);
+		//Catch a failure to create or write an export file
+		catch (IOException | IllegalArgumentException e) {
+			System.out.println("Error: Could not export the results: " + e.getMessage());
+			return;
 		}
-	}
-
-
-
-	//This method simulates paging using the FIFO algorithm and returns the total number of page faults
-	static int simulatePagingFIFO(int[] pageReferences, int numFrames) {
-		//Create a list to represent memory frames
-		List<Integer> frames = new ArrayList<>();
-		int pageFaults = 0; //Initialize the page fault counter to 0
-		//For each page reference
-		for (int page : pageReferences) {
-			//If the page is not currently in memory
-			if (!frames.contains(page)) {
-				pageFaults++; //Increment the page fault counter
-				//If there is space in memory, add the page; otherwise, remove the oldest page and add the new page
-				if (frames.size() < numFrames) {
-					frames.add(page);
-				} else {
-					frames.remove(0);
-					frames.add(page);
-				}
+		//Catch an interruption while waiting for the runs
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			System.out.println("Error: Scheduling was interrupted.");
+			return;
+		}
+		//Catch a failure inside one of the runs
+		catch (ExecutionException e) {
+			System.out.println("Error: Scheduling failed: " + e.getCause());
+			return;
+		}
+		if (options.sweepMin > 0) {
+			roundRobinQuantumSweep(table, options.sweepMin, options.sweepMax);
+		}
+		if (options.algorithms.contains("memory")) {
+			System.out.println("\nMemory Allocation Simulation:");
+			if (options.allocator.equals("holes")) {
+				simulateMemoryAllocation(processes, options.fit);
+			} else {
+				Allocator allocator = createAllocator(options.allocator, options.fit, processes.size());
+				simulateMemoryAllocation(processes, allocator, allocator.name() + " (" + (1 << memoryOrder(processes.size())) + " Units)");
 			}
 		}
-		//Return the total number of page faults
-		return pageFaults;
+		if (options.algorithms.contains("lifetime") || options.algorithms.contains("allocators")) {
+			ScheduleResult run = commandLineResult(options.lifetimeScheduler, table, options, null, null);
+			if (options.algorithms.contains("lifetime"))
+				simulateMemoryLifetimes(run, createAllocator(options.allocator, options.fit, processes.size()), options.samples);
+			if (options.algorithms.contains("allocators"))
+				compareAllocators(run, options.samples);
+		}
+		if (options.algorithms.contains("paging")) {
+			pagingSimulation();
+		}
 	}
 
+	//This method returns the command line allocator of the given kind for the given number of processes
+	static Allocator createAllocator(String kind, FitStrategy fit, int processes) {
+		return switch (kind) {
+			case "buddy" -> new BuddyAllocator(3, memoryOrder(processes));
+			case "slab" -> new SlabAllocator(memoryOrder(processes));
+			default -> generateHoles(processes, fit);
+		};
+	}
 
+	//This method opens a record exporter for the given file with the given columns, or returns null if filename is null
+	static RecordExporter openExporter(String filename, String[] columns) throws IOException {
+		return filename == null ? null : new RecordExporter(filename, columns);
+	}
 
-	//This method simulates paging using the LRU algorithm and returns the total number of page faults
-	static int simulatePagingLRU(int[] pageReferences, int numFrames) {
-		//Create a list to represent memory frames
-		List<Integer> frames = new ArrayList<>();
-		int pageFaults = 0; //Initialize the page fault counter to 0
-		//For each page reference
-		for (int page : pageReferences) {
-			//If the page is not currently in memory
-			if (!frames.contains(page)) {
-				pageFaults++; //Increment the page fault counter
-				//If there is space in memory, add the page; otherwise, remove the least recently used page and add the new page
-				if (frames.size() < numFrames) {
-					frames.add(page);
-				} else {
-					frames.remove(0);
-					frames.add(page);
+	//This method runs one command line scheduling algorithm and returns its result
+	//The Gantt chart is streamed to ganttExport if it is not null, kept for printing in the full text report, and not
+	//recorded at all otherwise; the per-process records are written to processExport, if not null, once the run finishes
+	static ScheduleResult commandLineResult(String algorithm, ProcessTable table, CommandLineOptions options,
+											RecordExporter processExport, RecordExporter ganttExport) {
+		boolean keep = !quiet && !options.summary;
+		Timeline gantt = ganttExport != null ? new Timeline(ganttExport, algorithm, 0) : keep ? new Timeline() : null;
+		ScheduleResult result = switch (algorithm) {
+			case "fcfs" -> fcfsResult(table, gantt);
+			case "sjf" -> sjfResult(table, gantt);
+			case "rr" -> roundRobinResult(table, options.quantum, gantt);
+			case "priority" -> priorityResult(table, gantt);
+			case "srtf" -> srtfResult(table, gantt);
+			case "ppriority" -> preemptivePriorityResult(table, gantt);
+			case "mlfq" -> mlfqResult(table, options.mlfqQuanta, options.boostInterval, gantt);
+			case "smp" -> {
+				Timeline[] lanes = null;
+				if (ganttExport != null || keep) {
+					lanes = new Timeline[options.cpus];
+					for (int c = 0; c < options.cpus; c++) {
+						lanes[c] = ganttExport != null ? new Timeline(ganttExport, algorithm, c) : new Timeline();
+					}
 				}
-			} else {
-				//If the page is already in memory, update its recency by removing and re-adding it
-				frames.remove(Integer.valueOf(page));
-				frames.add(page);
+				yield smpResult(table, options.cpus, options.quantum, lanes);
 			}
+			default -> throw new IllegalStateException(algorithm);
+		};
+		//Write the segments still held by the exports; an exported chart is not printed
+		if (ganttExport != null) {
+			for (Timeline lane : result.lanes != null ? result.lanes : new Timeline[] {gantt}) {
+				lane.flush();
+			}
+			result.gantt = null;
+			result.lanes = null;
 		}
-		//Return the total number of page faults
-		return pageFaults;
+		if (processExport != null && result.error == null) {
+			exportProcesses(processExport, algorithm, result);
+		}
+		return result;
 	}
 
-
-    
-	//This helper method prompts the user for a yes/no input and returns true for "y" and false for "n"
-	static boolean getYesNo(String prompt, Scanner sc) {
-		//Loop until valid input is received
-		while (true) {
-			System.out.print(prompt); //Print the prompt
-			String input = sc.nextLine().trim().toLowerCase(); //Read and normalize the input
-			if (input.equals("y")) { //If the input is "y"
-				return true;
-			} else if (input.equals("n")) { //If the input is "n"
-				return false;
-			} else { //If the input is invalid
-				System.out.println("Invalid option. Please enter 'y' or 'n'.");
+	//This method prints one line per scheduling result with its averages and makespan
+	static void printSummary(List<ScheduleResult> results) {
+		int width = "Algorithm".length();
+		for (ScheduleResult result : results) {
+			width = Math.max(width, result.title.length());
+		}
+		String format = "%-" + width + "s | %-9s | %-20s | %-23s | %-8s\n";
+		System.out.printf(format, "Algorithm", "Processes", "Average Waiting Time", "Average Turnaround Time", "Makespan");
+		for (ScheduleResult result : results) {
+			if (result.error != null) {
+				System.out.printf("%-" + width + "s | %s\n", result.title, result.error);
+			} else {
+				System.out.printf(format, result.title, result.order.length, String.format("%.2f", result.averageWaiting()),
+								  String.format("%.2f", result.averageTurnaround()), result.makespan());
 			}
 		}
 	}
 
 
 
-
-
-
 	//This is the main method, the entry point of the program
+	//With command line arguments the simulation runs non-interactively (see runCommandLine), otherwise the user is prompted
 	public static void main(String[] args) {
+		if (args.length > 0) {
+			runCommandLine(args);
+			return;
+		}
 		//Create a Scanner object to read user input
 		Scanner sc = new Scanner(System.in);
 		//Define the filename for the processes file
@@ -642,7 +4979,7 @@ public class OperatingSystemSchedulesProcesses {
 			return;
 		}
 		//Read the processes from the file
-		List<Process> processes = readProcesses(filename);
+		List<Process> processes = readProcessesMapped(filename);
 		//If no processes were read, inform the user
 		if (processes.isEmpty()) {
 			System.out.println("No processes to schedule. Please check your processes.txt file.");
@@ -669,26 +5006,34 @@ public class OperatingSystemSchedulesProcesses {
 				priorityScheduling(processes);
 				System.out.println("\n--------------------\n");
 			}
+			//Prompt the user to run SRTF scheduling and execute if confirmed
+			if (getYesNo("Run SRTF Scheduling? (y/n): ", sc)) {
+				srtfScheduling(processes);
+				System.out.println("\n--------------------\n");
+			}
+			//Prompt the user to run preemptive Priority scheduling and execute if confirmed
+			if (getYesNo("Run Preemptive Priority Scheduling? (y/n): ", sc)) {
+				preemptivePriorityScheduling(processes);
+				System.out.println("\n--------------------\n");
+			}
+			//Prompt the user to run MLFQ scheduling and execute if confirmed with three levels and a boost every 50 time units
+			if (getYesNo("Run MLFQ Scheduling? (y/n): ", sc)) {
+				mlfqScheduling(processes, new int[] {4, 8, 16}, 50);
+				System.out.println("\n--------------------\n");
+			}
+			//Prompt the user to run SMP scheduling and execute if confirmed with 4 CPUs and a time quantum of 4
+			if (getYesNo("Run SMP Scheduling? (y/n): ", sc)) {
+				smpScheduling(processes, 4, 4);
+				System.out.println("\n--------------------\n");
+			}
 		}
 		//Print the header for memory allocation simulation
 		System.out.println("\nMemory Allocation Simulation:");
 		//Simulate memory allocation using the first-fit strategy
 		simulateMemoryAllocationFirstFit(processes);
 		
-		//Define an array of page references for paging simulation
-		int[] pageRefs = {7, 0, 1, 2, 0, 3, 0, 4, 2, 3, 0, 3, 2};
-		//Define the number of memory frames for the paging simulation
-		int numFrames = 3;
-		//Simulate FIFO paging and capture the number of page faults
-		int fifoFaults = simulatePagingFIFO(pageRefs, numFrames);
-		//Simulate LRU paging and capture the number of page faults
-		int lruFaults = simulatePagingLRU(pageRefs, numFrames);
-		//Print the header for paging simulation
-		System.out.println("\nPaging Simulation:");
-		//Print the number of FIFO page faults
-		System.out.println("FIFO Page Faults: " + fifoFaults);
-		//Print the number of LRU page faults
-		System.out.println("LRU Page Faults: " + lruFaults);
+		//Simulate paging over the sample page reference string
+		pagingSimulation();
 		//Close the Scanner resource
 		sc.close();
 	}